@@ -6,8 +6,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.reliaquest.api.model.CreateEmployeeJob;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatch;
+import com.reliaquest.api.model.EmployeeQuery;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.utils.CacheServed;
+import com.reliaquest.api.utils.EmployeeInput;
+import com.reliaquest.api.utils.LocallyQueued;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -37,6 +43,18 @@ public class EmployeeController implements IEmployeeController<Employee, Object>
 		return new ResponseEntity<>(employeeService.getEmployeeById(id), HttpStatus.OK);
 	}
 
+	@CacheServed
+	@GetMapping("/batch")
+	public ResponseEntity<EmployeeBatch> getEmployeesByIds(@RequestParam List<String> ids) {
+		return new ResponseEntity<>(employeeService.getEmployeesByIds(ids), HttpStatus.OK);
+	}
+
+	@CacheServed
+	@GetMapping("/query")
+	public ResponseEntity<List<Employee>> queryEmployees(EmployeeQuery query) {
+		return new ResponseEntity<>(employeeService.queryEmployees(query), HttpStatus.OK);
+	}
+
 	@Override
 	@GetMapping("/highestSalary")
 	public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
@@ -57,8 +75,20 @@ public class EmployeeController implements IEmployeeController<Employee, Object>
 
 	@Override
 	@PostMapping()
-	public ResponseEntity<Employee> createEmployee(@RequestBody Object employeeInput) {
+	public ResponseEntity<Employee> createEmployee(@EmployeeInput Object employeeInput) {
 		return new ResponseEntity<>(employeeService.createEmployee(employeeInput), HttpStatus.OK);
 	}
 
+	@LocallyQueued
+	@PostMapping("/async")
+	public ResponseEntity<CreateEmployeeJob> createEmployeeAsync(@EmployeeInput Object employeeInput) {
+		return new ResponseEntity<>(employeeService.createEmployeeAsync(employeeInput), HttpStatus.ACCEPTED);
+	}
+
+	@CacheServed(needsFreshRoster = false)
+	@GetMapping("/async/{jobId}")
+	public ResponseEntity<CreateEmployeeJob> getCreateEmployeeJob(@PathVariable String jobId) {
+		return new ResponseEntity<>(employeeService.getCreateEmployeeJob(jobId), HttpStatus.OK);
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.reliaquest.api.controller;
+
+import java.util.Map;
+
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reliaquest.api.service.RosterWarmer;
+
+/**
+ * Liveness and readiness probes for load balancers and orchestrators. An instance is ready once the application
+ * accepts traffic and the roster has been warmed up; until then, and while shutting down, readiness answers 503.
+ */
+@RestController
+@RequestMapping("/health")
+public class HealthController {
+
+	private final ApplicationAvailability applicationAvailability;
+
+	private final RosterWarmer rosterWarmer;
+
+	public HealthController(ApplicationAvailability applicationAvailability, RosterWarmer rosterWarmer) {
+		this.applicationAvailability = applicationAvailability;
+		this.rosterWarmer = rosterWarmer;
+	}
+
+	@GetMapping("/liveness")
+	public ResponseEntity<Map<String, Object>> liveness() {
+		boolean live = applicationAvailability.getLivenessState() == LivenessState.CORRECT;
+		return status(live, Map.of());
+	}
+
+	@GetMapping("/readiness")
+	public ResponseEntity<Map<String, Object>> readiness() {
+		boolean accepting = applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+		boolean warm = rosterWarmer.isWarm();
+		return status(accepting && warm, Map.of("acceptingTraffic", accepting, "rosterWarm", warm));
+	}
+
+	private static ResponseEntity<Map<String, Object>> status(boolean up, Map<String, Object> details) {
+		return new ResponseEntity<>(Map.of("status", up ? "UP" : "OUT_OF_SERVICE", "details", details),
+				up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE);
+	}
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reliaquest.api.service.LatencyRecorder;
+
+/**
+ * Per-endpoint latency percentiles, split by phase, for SLO dashboards. Each call reports the interval since the
+ * previous one, so a dashboard polling it sees one interval per poll.
+ */
+@RestController
+public class LatencyController {
+
+	private final LatencyRecorder latencyRecorder;
+
+	public LatencyController(LatencyRecorder latencyRecorder) {
+		this.latencyRecorder = latencyRecorder;
+	}
+
+	@GetMapping("/metrics/latency")
+	public ResponseEntity<Map<String, Object>> latency() {
+		return new ResponseEntity<>(latencyRecorder.nextInterval(), HttpStatus.OK);
+	}
+}
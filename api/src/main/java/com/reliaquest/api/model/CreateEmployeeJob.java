@@ -0,0 +1,31 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CreateEmployeeJob {
+
+    private String jobId;
+
+    private Status status;
+
+    private Employee employee;
+
+    private String error;
+
+    public enum Status {
+        QUEUED,
+        COMPLETED,
+        FAILED,
+        // The create was sent but no answer came back, so the employee may or may not exist upstream.
+        UNKNOWN
+    }
+}
@@ -1,11 +0,0 @@
-package com.reliaquest.api.model;
-
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import lombok.Data;
-
-@Data
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class DeleteEmployeeResponse {
-    private Boolean flag;
-    private String status;
-}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeBatch {
+
+    /** Employees found, in the order their ids were requested. */
+    private List<Employee> data;
+
+    /** Requested ids that do not exist upstream. */
+    private List<String> missingIds;
+}
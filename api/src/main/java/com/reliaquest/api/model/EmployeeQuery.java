@@ -0,0 +1,38 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Filters, ordering and page size of an employee query, as received; unset fields do not constrain the result. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeQuery {
+
+    /** Lowest salary to include, inclusive. */
+    private Integer minSalary;
+
+    /** Highest salary to include, inclusive. */
+    private Integer maxSalary;
+
+    /** Lowest age to include, inclusive. */
+    private Integer minAge;
+
+    /** Highest age to include, inclusive. */
+    private Integer maxAge;
+
+    /** Exact title to match, ignoring case. */
+    private String title;
+
+    /** {@code salary} or {@code age}; unset keeps roster order. */
+    private String sort;
+
+    /** {@code asc} (the default) or {@code desc}. */
+    private String order;
+
+    /** Maximum number of employees to return. */
+    private Integer limit;
+}
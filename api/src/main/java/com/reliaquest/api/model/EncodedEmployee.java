@@ -0,0 +1,58 @@
+package com.reliaquest.api.model;
+
+/**
+ * An employee together with its JSON encoding, produced once when it enters the roster cache. It equals a plain
+ * {@link Employee} with the same fields, and Jackson still sees only the {@code Employee} properties.
+ *
+ * <p>Instances are shared by every request that reads the cache and must match {@link #json()}, so the setters
+ * inherited from {@code Employee} throw; copy into a new {@code Employee} to change a field.
+ */
+public class EncodedEmployee extends Employee {
+
+    private final byte[] json;
+
+    public EncodedEmployee(Employee employee, byte[] json) {
+        super(employee.getId(), employee.getName(), employee.getSalary(), employee.getAge(), employee.getEmail(),
+                employee.getTitle());
+        this.json = json;
+    }
+
+    /** UTF-8 JSON of this employee, as the api's {@code ObjectMapper} writes it. Callers must not modify it. */
+    public byte[] json() {
+        return json;
+    }
+
+    @Override
+    public void setId(String id) {
+        throw immutable();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw immutable();
+    }
+
+    @Override
+    public void setSalary(Integer salary) {
+        throw immutable();
+    }
+
+    @Override
+    public void setAge(Integer age) {
+        throw immutable();
+    }
+
+    @Override
+    public void setEmail(String email) {
+        throw immutable();
+    }
+
+    @Override
+    public void setTitle(String title) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Cached employees are immutable");
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of {@link EncodedEmployee}s that also holds the JSON array of all of them, joined once from the
+ * per-employee encodings.
+ */
+public class EncodedEmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+    private final List<EncodedEmployee> employees;
+    private final byte[] json;
+
+    public EncodedEmployeeList(List<EncodedEmployee> employees) {
+        this.employees = List.copyOf(employees);
+        int length = 2 + Math.max(0, employees.size() - 1);
+        for (EncodedEmployee employee : this.employees) {
+            length += employee.json().length;
+        }
+        this.json = new byte[length];
+        int offset = 0;
+        json[offset++] = '[';
+        for (int i = 0; i < this.employees.size(); i++) {
+            if (i > 0) {
+                json[offset++] = ',';
+            }
+            final byte[] element = this.employees.get(i).json();
+            System.arraycopy(element, 0, json, offset, element.length);
+            offset += element.length;
+        }
+        json[offset] = ']';
+    }
+
+    @Override
+    public EncodedEmployee get(int index) {
+        return employees.get(index);
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    /** UTF-8 JSON array of the whole list. Callers must not modify it. */
+    public byte[] json() {
+        return json;
+    }
+}
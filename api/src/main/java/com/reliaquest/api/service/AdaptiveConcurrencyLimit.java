@@ -0,0 +1,103 @@
+package com.reliaquest.api.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits how many requests that need the upstream may run at once, adapting the limit to upstream round-trip times.
+ * It keeps a fast and a slow moving average of those times; while the fast average stays within {@code tolerance}
+ * of the slow one the limit grows by about its square root per sample, and as the upstream slows down the limit
+ * shrinks by the ratio of the two. A failed upstream request or an upstream 429 or 503 cuts the limit by a tenth.
+ *
+ * <p>Writes may only take {@code writeShare} of the limit, so that reads are still admitted when writes pile up.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimit {
+
+    private static final double FAST_WEIGHT = 0.1;
+    private static final double SLOW_WEIGHT = 0.002;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double writeShare;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this.
+    private double estimate;
+    private double fastRtt;
+    private double slowRtt;
+
+    public AdaptiveConcurrencyLimit(
+            @Value("${employee.admission.initial-limit:20}") int initialLimit,
+            @Value("${employee.admission.min-limit:4}") int minLimit,
+            @Value("${employee.admission.max-limit:200}") int maxLimit,
+            @Value("${employee.admission.tolerance:2.0}") double tolerance,
+            @Value("${employee.admission.write-share:0.5}") double writeShare) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.writeShare = writeShare;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+    }
+
+    /** Takes a slot for a request that needs the upstream, unless the limit, or a write's share of it, is used up. */
+    public boolean tryAcquire(boolean write) {
+        final int allowed = write ? Math.max(1, (int) (limit * writeShare)) : limit;
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /** Gives back a slot taken by {@link #tryAcquire(boolean)}. */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /** Adjusts the limit to one upstream request that took {@code rttNanos}, or that failed when {@code dropped}. */
+    public synchronized void onSample(long rttNanos, boolean dropped) {
+        final double next;
+        if (dropped) {
+            next = estimate * BACKOFF;
+        } else {
+            fastRtt = fastRtt == 0 ? rttNanos : fastRtt + FAST_WEIGHT * (rttNanos - fastRtt);
+            slowRtt = slowRtt == 0 ? rttNanos : slowRtt + SLOW_WEIGHT * (rttNanos - slowRtt);
+            // Once the upstream recovers, let the slow average catch up rather than hold the limit down.
+            if (slowRtt > 2 * fastRtt) {
+                slowRtt *= 0.95;
+            }
+            final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * slowRtt / fastRtt));
+            final double grown = estimate * gradient + Math.sqrt(estimate);
+            // An idle limit has not been tested, so it only grows while at least half of it is in use.
+            next = inFlight.get() < estimate / 2 ? Math.min(estimate, grown) : grown;
+        }
+        estimate = Math.max(minLimit, Math.min(maxLimit, estimate * (1 - SMOOTHING) + next * SMOOTHING));
+        final int rounded = (int) estimate;
+        if (rounded != limit) {
+            log.debug("Concurrency limit {} -> {} (in flight {})", limit, rounded, inFlight.get());
+            limit = rounded;
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,194 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.CreateEmployeeDto;
+import com.reliaquest.api.model.CreateEmployeeJob;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.utils.ApiConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Write-behind queue for asynchronous employee creation. Accepted requests wait in a bounded deque and a single
+ * background worker drains at most {@code batchSize} of them every {@code batchInterval}, so bursts of creates are
+ * paced to the upstream rate limit instead of running into it. A 429, or a failure to connect or to get a pooled
+ * connection, puts the request back at the head of the queue and ends the batch early, until the request has been
+ * tried {@code maxAttempts} times; then its job fails, so that one request cannot hold up the queue behind it for good.
+ *
+ * <p>Other I/O failures, such as a response timeout, may come after the upstream received the create. It takes no
+ * idempotency key, so sending it again could create the employee twice; those jobs end {@code UNKNOWN} instead.
+ */
+@Service
+@Slf4j
+public class EmployeeCreateQueue {
+
+    private final RestTemplateService restTemplateService;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final int batchSize;
+    private final Duration batchInterval;
+    private final int retainedFinishedJobs;
+    private final int maxAttempts;
+
+    private final BlockingDeque<PendingCreate> pending;
+    private final Map<String, CreateEmployeeJob> jobs = new ConcurrentHashMap<>();
+    // Only touched by the worker thread.
+    private final Queue<String> finishedJobIds = new ArrayDeque<>();
+
+    private ScheduledExecutorService worker;
+
+    public EmployeeCreateQueue(
+            RestTemplateService restTemplateService,
+            EmployeeRosterCache employeeRosterCache,
+            @Value("${employee.create.queue-capacity:1000}") int queueCapacity,
+            @Value("${employee.create.batch-size:5}") int batchSize,
+            @Value("${employee.create.batch-interval:10s}") Duration batchInterval,
+            @Value("${employee.create.retained-finished-jobs:10000}") int retainedFinishedJobs,
+            @Value("${employee.create.max-attempts:5}") int maxAttempts) {
+        this.restTemplateService = restTemplateService;
+        this.employeeRosterCache = employeeRosterCache;
+        this.pending = new LinkedBlockingDeque<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.retainedFinishedJobs = retainedFinishedJobs;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    void start() {
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-create-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(
+                this::drainBatch, batchInterval.toMillis(), batchInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+        if (!pending.isEmpty()) {
+            log.warn("Shutting down with {} queued employee creates not sent upstream", pending.size());
+        }
+    }
+
+    public CreateEmployeeJob submit(CreateEmployeeDto employee) {
+        CreateEmployeeJob job = CreateEmployeeJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(CreateEmployeeJob.Status.QUEUED)
+                .build();
+        jobs.put(job.getJobId(), job);
+        if (!pending.offerLast(new PendingCreate(job.getJobId(), employee, 0))) {
+            jobs.remove(job.getJobId());
+            log.error("Employee create queue is full, rejecting request");
+            throw new EmployeeException(HttpStatus.TOO_MANY_REQUESTS, "Employee create queue is full, retry later");
+        }
+        log.debug("Queued employee create job {}", job.getJobId());
+        return job;
+    }
+
+    public Optional<CreateEmployeeJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    int queuedCount() {
+        return pending.size();
+    }
+
+    void drainBatch() {
+        for (int sent = 0; sent < batchSize; sent++) {
+            PendingCreate next = pending.pollFirst();
+            if (next == null) {
+                return;
+            }
+            try {
+                ResponseEntity<EmployeeResponse> response = restTemplateService.createEmployee(
+                        ApiConstants.GET_EMPLOYEE_URL, HttpMethod.POST, new HttpEntity<>(next.employee()),
+                        EmployeeResponse.class);
+                Employee created = response.getBody().getData();
+                employeeRosterCache.invalidate(created.getId());
+                finish(next.jobId(), job -> job.status(CreateEmployeeJob.Status.COMPLETED).employee(created));
+                log.debug("Completed employee create job {}", next.jobId());
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                requeue(next, e);
+                return;
+            } catch (ResourceAccessException e) {
+                if (neverSent(e)) {
+                    requeue(next, e);
+                    return;
+                }
+                log.error("Employee create job {} outcome unknown: {}", next.jobId(), e.getMessage());
+                finish(next.jobId(), job -> job.status(CreateEmployeeJob.Status.UNKNOWN)
+                        .error("Upstream did not answer, the employee may have been created: " + e.getMessage()));
+                return;
+            } catch (Exception e) {
+                log.error("Employee create job {} failed: {}", next.jobId(), e.getMessage());
+                finish(next.jobId(), job -> job.status(CreateEmployeeJob.Status.FAILED).error(e.getMessage()));
+            }
+        }
+    }
+
+    private void requeue(PendingCreate next, RuntimeException e) {
+        log.debug("Upstream unavailable ({}), pausing employee create queue", e.getMessage());
+        PendingCreate retry = next.retried();
+        if (retry.attempts() >= maxAttempts) {
+            log.error("Employee create job {} failed after {} attempts", next.jobId(), retry.attempts());
+            finish(next.jobId(), job -> job.status(CreateEmployeeJob.Status.FAILED)
+                    .error("Upstream unavailable after " + retry.attempts() + " attempts: " + e.getMessage()));
+        } else if (!pending.offerFirst(retry)) {
+            finish(next.jobId(), job -> job.status(CreateEmployeeJob.Status.FAILED)
+                    .error("Upstream unavailable and create queue is full"));
+        }
+    }
+
+    // Failures that happen before any of the request is written, so the upstream cannot have acted on it.
+    private static boolean neverSent(ResourceAccessException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof ConnectException
+                || cause instanceof ConnectTimeoutException
+                || cause instanceof ConnectionRequestTimeoutException
+                || cause instanceof UnknownHostException;
+    }
+
+    private void finish(String jobId, UnaryOperator<CreateEmployeeJob.CreateEmployeeJobBuilder> update) {
+        jobs.computeIfPresent(jobId, (id, job) -> update.apply(job.toBuilder()).build());
+        finishedJobIds.add(jobId);
+        if (finishedJobIds.size() > retainedFinishedJobs) {
+            jobs.remove(finishedJobIds.poll());
+        }
+    }
+
+    private record PendingCreate(String jobId, CreateEmployeeDto employee, int attempts) {
+
+        PendingCreate retried() {
+            return new PendingCreate(jobId, employee, attempts + 1);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EncodedEmployee;
+import com.reliaquest.api.model.EncodedEmployeeList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local copy of the upstream roster, kept so that id lookups do not each cost an upstream request. It holds the last
+ * full roster as an immutable snapshot indexed by id, and a bounded least-recently-used map of individually looked up
+ * employees that outlives a snapshot. Both are trusted for {@code ttl} after they were loaded.
+ *
+ * <p>Every cached employee carries its JSON encoding, made when it first enters the cache and reused for as long as
+ * the upstream returns it unchanged; a reload that returns an unchanged roster keeps the previous snapshot's encoded
+ * list and its query indexes. Concurrent {@link #refresh(Supplier)} calls share a single upstream load.
+ */
+@Component
+@Slf4j
+public class EmployeeRosterCache {
+
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final int hotIdCapacity;
+    private final LongSupplier clock;
+
+    private volatile Snapshot snapshot;
+    // Bumped by every invalidation; a load only installs its snapshot if no invalidation happened since it began.
+    // Guarded by itself together with snapshot writes.
+    private final long[] generation = {0};
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    // Access-ordered, so iteration starts at the least recently used entry; guarded by itself.
+    private final LinkedHashMap<String, HotEntry> hotIds;
+
+    @Autowired
+    public EmployeeRosterCache(
+            ObjectMapper objectMapper,
+            @Value("${employee.roster.ttl:30s}") Duration ttl,
+            @Value("${employee.roster.hot-ids:1000}") int hotIdCapacity) {
+        this(objectMapper, ttl, hotIdCapacity, System::nanoTime);
+    }
+
+    EmployeeRosterCache(ObjectMapper objectMapper, Duration ttl, int hotIdCapacity, LongSupplier clock) {
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.hotIdCapacity = hotIdCapacity;
+        this.clock = clock;
+        this.hotIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HotEntry> eldest) {
+                return size() > EmployeeRosterCache.this.hotIdCapacity;
+            }
+        };
+    }
+
+    /** The last loaded roster, if it is still within its time to live. */
+    public Optional<Snapshot> fresh() {
+        final Snapshot current = snapshot;
+        return current != null && isFresh(current.loadedAt()) ? Optional.of(current) : Optional.empty();
+    }
+
+    /**
+     * Loads the roster with {@code loader} and keeps it as the new snapshot. A caller that arrives while another load is
+     * running waits for that load instead of starting its own, and sees its result or its exception. A load overtaken
+     * by {@link #invalidate(String)} still answers its callers but is not kept, since it may predate the write.
+     */
+    public Snapshot refresh(Supplier<List<Employee>> loader) {
+        final var load = new CompletableFuture<Snapshot>();
+        final var running = inFlight.compareAndExchange(null, load);
+        if (running != null) {
+            log.debug("Joining roster load already in flight");
+            return join(running);
+        }
+        final long startedAt;
+        synchronized (generation) {
+            startedAt = generation[0];
+        }
+        try {
+            final var loaded = snapshotOf(loader.get(), snapshot, clock.getAsLong());
+            synchronized (generation) {
+                if (generation[0] == startedAt) {
+                    snapshot = loaded;
+                } else {
+                    log.debug("Roster changed while loading, not keeping the loaded snapshot");
+                }
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (Throwable e) {
+            // Errors too, or callers already waiting on this load would wait forever.
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(load, null);
+        }
+    }
+
+    /**
+     * The result of a {@link #refresh(Supplier)} that is running now, once it finishes, or empty when none is running.
+     * Lets a caller that would otherwise read the roster itself wait for that load instead.
+     */
+    public Optional<Snapshot> loadInFlight() {
+        final var running = inFlight.get();
+        return running == null ? Optional.empty() : Optional.of(join(running));
+    }
+
+    private static Snapshot join(CompletableFuture<Snapshot> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /** A recently looked up employee, if it is still within its time to live. */
+    public Optional<Employee> hot(String id) {
+        synchronized (hotIds) {
+            final var entry = hotIds.get(id);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!isFresh(entry.loadedAt())) {
+                hotIds.remove(id);
+                return Optional.empty();
+            }
+            return Optional.of(entry.employee());
+        }
+    }
+
+    /**
+     * Records an employee just read from or written to the upstream, and returns it with its JSON encoding. The
+     * encoding is reused from the cache when the cached copy is unchanged.
+     */
+    public EncodedEmployee remember(Employee employee) {
+        if (employee == null || employee.getId() == null) {
+            return employee == null ? null : encode(employee);
+        }
+        synchronized (hotIds) {
+            final var cached = hotIds.get(employee.getId());
+            final Snapshot current = snapshot;
+            final EncodedEmployee encoded = cached != null && cached.employee().equals(employee)
+                    ? cached.employee()
+                    : current != null && employee.equals(current.byId().get(employee.getId()))
+                            ? current.byId().get(employee.getId())
+                            : encode(employee);
+            hotIds.put(employee.getId(), new HotEntry(encoded, clock.getAsLong()));
+            return encoded;
+        }
+    }
+
+    /** Records employees served from {@code source}, keeping the snapshot's load time as their age. */
+    public void remember(List<EncodedEmployee> employees, Snapshot source) {
+        synchronized (hotIds) {
+            employees.forEach(employee -> hotIds.put(employee.getId(), new HotEntry(employee, source.loadedAt())));
+        }
+    }
+
+    /** Forgets everything a write to {@code employeeId} may have made stale: the employee and the whole snapshot. */
+    public void invalidate(String employeeId) {
+        if (employeeId != null) {
+            synchronized (hotIds) {
+                hotIds.remove(employeeId);
+            }
+        }
+        synchronized (generation) {
+            generation[0]++;
+            snapshot = null;
+            // Later callers start a load of their own rather than join one that may predate this write.
+            inFlight.set(null);
+        }
+    }
+
+    int hotIdCount() {
+        synchronized (hotIds) {
+            return hotIds.size();
+        }
+    }
+
+    private Snapshot snapshotOf(List<Employee> employees, Snapshot previous, long loadedAt) {
+        if (previous != null && previous.employees().equals(employees)) {
+            return new Snapshot(previous.employees(), previous.byId(), previous.index(), loadedAt);
+        }
+        final List<EncodedEmployee> encoded = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            final EncodedEmployee unchanged =
+                    previous == null || employee.getId() == null ? null : previous.byId().get(employee.getId());
+            encoded.add(unchanged != null && unchanged.equals(employee) ? unchanged : encode(employee));
+        }
+        final Map<String, EncodedEmployee> byId = encoded.stream()
+                .filter(employee -> employee.getId() != null)
+                .collect(Collectors.toUnmodifiableMap(
+                        EncodedEmployee::getId, Function.identity(), (first, second) -> first));
+        final var list = new EncodedEmployeeList(encoded);
+        return new Snapshot(list, byId, new RosterIndex(list), loadedAt);
+    }
+
+    private EncodedEmployee encode(Employee employee) {
+        if (employee instanceof EncodedEmployee encoded) {
+            return encoded;
+        }
+        try {
+            return new EncodedEmployee(employee, objectMapper.writeValueAsBytes(employee));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode employee " + employee.getId(), e);
+        }
+    }
+
+    private boolean isFresh(long loadedAt) {
+        return clock.getAsLong() - loadedAt < ttlNanos;
+    }
+
+    public record Snapshot(
+            EncodedEmployeeList employees, Map<String, EncodedEmployee> byId, RosterIndex index, long loadedAt) {}
+
+    private record HotEntry(EncodedEmployee employee, long loadedAt) {}
+}
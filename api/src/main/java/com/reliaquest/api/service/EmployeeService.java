@@ -1,9 +1,17 @@
 package com.reliaquest.api.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.Comparator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.exception.EmployeeException;
@@ -11,7 +19,6 @@ import com.reliaquest.api.model.*;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpMethod;
@@ -19,6 +26,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import com.reliaquest.api.utils.ApiConstants;
+import com.reliaquest.api.utils.EmployeeIds;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
@@ -26,28 +34,76 @@ import org.springframework.web.client.ResourceAccessException;
 @Slf4j
 public class EmployeeService implements IEmployeeService {
 
+	// Thread-safe and costly to build, so shared rather than created per request.
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
 	private final RestTemplateService restTemplateService;
 
+	private final EmployeeCreateQueue employeeCreateQueue;
+
+	private final EmployeeRosterCache employeeRosterCache;
+
+	private final RosterAggregator rosterAggregator;
+
+	private final RosterStream rosterStream;
+
 	private ObjectMapper objectMapper;
 
-	public EmployeeService(ObjectMapper objectMapper, RestTemplateService restTemplateService) {
+	public EmployeeService(ObjectMapper objectMapper, RestTemplateService restTemplateService,
+			EmployeeCreateQueue employeeCreateQueue, EmployeeRosterCache employeeRosterCache,
+			RosterAggregator rosterAggregator, RosterStream rosterStream) {
 		this.objectMapper = objectMapper;
 		this.restTemplateService = restTemplateService;
+		this.employeeCreateQueue = employeeCreateQueue;
+		this.employeeRosterCache = employeeRosterCache;
+		this.rosterAggregator = rosterAggregator;
+		this.rosterStream = rosterStream;
 	}
 
+	/*
+	 * Always reads upstream; concurrent callers share one request, and the result becomes the snapshot that
+	 * batch lookups are answered from.
+	 */
 	@Override
 	public List<Employee> getAllEmployees() {
+		return employeeRosterCache.refresh(this::fetchAllEmployees).employees();
+	}
+
+	private List<Employee> fetchAllEmployees() {
 		log.debug("EmployeeService -> getAllEmployeeList -> Entry");
-		ResponseEntity<EmployeeList> employeeResponseEntity;
-		try {
-			log.info(String.valueOf(restTemplateService));
-			employeeResponseEntity = restTemplateService.getAllEmployeesList(
+		return readRoster(() -> {
+			ResponseEntity<EmployeeList> employeeResponseEntity = restTemplateService.getAllEmployeesList(
 					ApiConstants.GET_EMPLOYEE_URL, HttpMethod.GET, EmployeeList.class);
-			log.info("Response of Request :{} ", employeeResponseEntity.getBody());
 
-			return employeeResponseEntity.getBody().getData();
+			List<Employee> employees = employeeResponseEntity.getBody().getData();
+			// The roster can be huge and is reloaded in the background, so only its size is logged.
+			log.debug("Read {} employees from the roster", employees == null ? 0 : employees.size());
+			return employees == null ? List.of() : employees;
+		});
+	}
+
+	/*
+	 * Aggregates answer from the roster snapshot, which the roster warmer keeps fresh, and wait for a snapshot load
+	 * that is already running rather than read the roster again. Only when neither is there do they stream the roster
+	 * from the upstream instead of loading it, holding only their result, so their memory does not grow with the
+	 * roster; concurrent callers of the same aggregate share that one stream.
+	 */
+	private <T> T aggregate(Function<List<Employee>, T> fromSnapshot, Supplier<T> streamed) {
+		Optional<EmployeeRosterCache.Snapshot> snapshot = employeeRosterCache.fresh()
+				.or(() -> readRoster(employeeRosterCache::loadInFlight));
+		if (snapshot.isPresent()) {
+			return fromSnapshot.apply(snapshot.get().employees());
+		}
+		log.debug("No fresh roster snapshot, streaming the roster upstream");
+		return readRoster(streamed);
+	}
+
+	private <T> T readRoster(Supplier<T> read) {
+		try {
+			return read.get();
+		} catch (EmployeeException e) {
+			throw e;
 		} catch(HttpClientErrorException e) {
-			e.getStatusCode().value();
 			throw new EmployeeException(HttpStatus.NOT_FOUND,"Employees List Not Found");
 		} catch (ResourceAccessException e) {
 			throw new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE,"Failed to connect to employee service");
@@ -61,9 +117,9 @@ public class EmployeeService implements IEmployeeService {
 	public List<Employee> getEmployeesByNameSearch(String employeeName) {
 
 		log.debug("Searching employees by name :{} ", employeeName);
-		List<Employee> employeeList = getAllEmployees().stream().filter(
-				employee -> employee.getName().toLowerCase()
-						.contains(employeeName.toLowerCase())).collect(Collectors.toList());
+		List<Employee> employeeList = aggregate(
+				roster -> rosterStream.checkMatches(rosterAggregator.filterByName(roster, employeeName), employeeName),
+				() -> rosterStream.filterByName(employeeName));
 
 		if(employeeList.isEmpty()) {
 			log.error("Employee with name {} not found", employeeName);
@@ -74,14 +130,15 @@ public class EmployeeService implements IEmployeeService {
 	}
 
 	@Override
-	public Employee getEmployeeById(String id) {
+	public Employee getEmployeeById(String employeeId) {
+		String id = toValidatedId(employeeId);
 		log.debug("Fetching employee with ID: {}", id);
 		try {
 			ResponseEntity<EmployeeResponse> employeeResponseEntity = restTemplateService.
 					getEmployeeById(ApiConstants.GET_EMPLOYEE_ID_URL, HttpMethod.GET,
 							EmployeeResponse.class,id);
 			log.info("Response of Request :{} ", employeeResponseEntity.getBody().getData());
-			return employeeResponseEntity.getBody().getData();
+			return employeeRosterCache.remember(employeeResponseEntity.getBody().getData());
 		} catch(HttpClientErrorException e) {
 			throw new EmployeeException(HttpStatus.NOT_FOUND,"Employee with ID " + id + " not found");
 		} catch (ResourceAccessException e) {
@@ -91,12 +148,78 @@ public class EmployeeService implements IEmployeeService {
 		}
 	}
 
+	/*
+	 * Answers from the roster snapshot while it is fresh, treating ids it does not list as missing, and otherwise
+	 * from recently looked up employees. Whatever is left costs one upstream roster read, shared with any
+	 * concurrent caller, however many ids are requested.
+	 */
+	@Override
+	public EmployeeBatch getEmployeesByIds(List<String> ids) {
+		Set<String> wanted = new LinkedHashSet<>();
+		List<String> invalid = new ArrayList<>();
+		if (ids != null) {
+			ids.stream().filter(id -> id != null && !id.isBlank()).map(String::trim).forEach(id -> {
+				if (EmployeeIds.isValid(id)) {
+					wanted.add(EmployeeIds.canonical(id));
+				} else {
+					invalid.add(id);
+				}
+			});
+		}
+		if (!invalid.isEmpty()) {
+			throw new EmployeeException(HttpStatus.BAD_REQUEST, "Invalid employee IDs: " + String.join(", ", invalid));
+		}
+		if (wanted.isEmpty()) {
+			throw new EmployeeException(HttpStatus.BAD_REQUEST, "At least one employee ID is required");
+		}
+		if (wanted.size() > ApiConstants.MAX_BATCH_IDS) {
+			throw new EmployeeException(HttpStatus.BAD_REQUEST,
+					"At most " + ApiConstants.MAX_BATCH_IDS + " employee IDs can be requested at once");
+		}
+		log.debug("Fetching {} employees by ID", wanted.size());
+
+		Optional<EmployeeRosterCache.Snapshot> snapshot = employeeRosterCache.fresh();
+		Map<String, Employee> found = new HashMap<>();
+		for (String id : wanted) {
+			snapshot.<Employee>map(roster -> roster.byId().get(id)).or(() -> employeeRosterCache.hot(id))
+					.ifPresent(employee -> found.put(id, employee));
+		}
+
+		if (found.size() < wanted.size() && snapshot.isEmpty()) {
+			log.debug("{} of {} IDs not cached, reading roster upstream", wanted.size() - found.size(), wanted.size());
+			EmployeeRosterCache.Snapshot roster = employeeRosterCache.refresh(this::fetchAllEmployees);
+			List<EncodedEmployee> loaded = wanted.stream().filter(id -> !found.containsKey(id))
+					.map(roster.byId()::get).filter(Objects::nonNull).collect(Collectors.toList());
+			employeeRosterCache.remember(loaded, roster);
+			loaded.forEach(employee -> found.put(employee.getId(), employee));
+		}
+
+		List<Employee> data = wanted.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+		List<String> missingIds = wanted.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+		return EmployeeBatch.builder().data(data).missingIds(missingIds).build();
+	}
+
+	/*
+	 * Filters the roster snapshot through its sorted indexes, reading the roster upstream only when the snapshot
+	 * has expired, so that consumers receive one page of matches instead of the whole roster.
+	 */
+	@Override
+	public List<Employee> queryEmployees(EmployeeQuery query) {
+		RosterIndex.Query validated = toValidatedQuery(query);
+		log.debug("Querying employees: {}", validated);
+
+		EmployeeRosterCache.Snapshot roster = employeeRosterCache.fresh()
+				.orElseGet(() -> employeeRosterCache.refresh(this::fetchAllEmployees));
+		List<Employee> employees = roster.index().query(validated);
+		log.debug("Query matched {} employees", employees.size());
+		return employees;
+	}
+
 	@Override
 	public Integer getHighestSalaryOfEmployees() {
 		log.debug("Fetching highest salary of employees...");
 
-		int highestSalary = getAllEmployees().stream().mapToInt(Employee::getSalary).max()
-				.orElse(0);
+		int highestSalary = aggregate(rosterAggregator::maxSalary, rosterStream::maxSalary);
 		log.debug("Highest salary found: {}", highestSalary);
 
 		if(highestSalary == 0) {
@@ -110,9 +233,9 @@ public class EmployeeService implements IEmployeeService {
 	public List<String> getTopTenHighestEarningEmployeeNames() {
 		log.debug("Fetching top 10 highest earning employees...");
 
-		List<String> topTenEmployees = getAllEmployees().stream()
-				.sorted(Comparator.comparingInt(Employee::getSalary).reversed())
-				.limit(10).map(Employee::getName).collect(Collectors.toList());
+		List<String> topTenEmployees = aggregate(roster -> rosterAggregator.topBySalary(roster, 10),
+				() -> rosterStream.topBySalary(10)).stream()
+				.map(Employee::getName).collect(Collectors.toList());
 
 		if(topTenEmployees.isEmpty()) {
 			log.error("Top 10 highest earning employee list not found");
@@ -123,24 +246,19 @@ public class EmployeeService implements IEmployeeService {
 	}
 
 	@Override
-	public String deleteEmployee(String id) {
+	public String deleteEmployee(String employeeId) {
+		String id = toValidatedId(employeeId);
 		log.debug("EmployeeService -> deleteEmployee -> Entry");
-		Employee employee = getEmployeeById(id);
-
 		try {
-			DeleteEmployeeInput deleteEmployeeInput = new DeleteEmployeeInput();
-			deleteEmployeeInput.setName(employee.getName());
-			HttpEntity<DeleteEmployeeInput> requestEntity = new HttpEntity<>(deleteEmployeeInput);
-			ResponseEntity<DeleteEmployeeResponse> employeeResponseEntity =
-					restTemplateService.deleteEmployeeByName(ApiConstants.GET_EMPLOYEE_URL,
-							HttpMethod.DELETE, requestEntity);
-			if (employeeResponseEntity.getStatusCode() == HttpStatus.OK) {
-				log.debug("Deleted employee with ID {}:", id);
-				return employee.getName();
-			} else {
-				log.error("Failed to delete the Employee Record {}", id);
-				throw new EmployeeException(HttpStatus.BAD_REQUEST,"Failed to delete the Employee Record "+id);
-			}
+			ResponseEntity<EmployeeResponse> employeeResponseEntity = restTemplateService.deleteEmployeeById(
+					ApiConstants.GET_EMPLOYEE_ID_URL, HttpMethod.DELETE, EmployeeResponse.class, id);
+			Employee employee = employeeResponseEntity.getBody().getData();
+			employeeRosterCache.invalidate(id);
+			log.debug("Deleted employee with ID {}:", id);
+			return employee.getName();
+		} catch (HttpClientErrorException e) {
+			log.error("Failed to delete the Employee Record {}", id);
+			throw new EmployeeException(HttpStatus.NOT_FOUND,"Employee with ID " + id + " not found");
 		} catch (ResourceAccessException e) {
 			throw new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE,"Failed to connect to employee service");
 		} catch (Exception e) {
@@ -150,40 +268,103 @@ public class EmployeeService implements IEmployeeService {
 
 	@Override
 	public Employee createEmployee(Object employeeInput) {
-		CreateEmployeeDto employee = new CreateEmployeeDto();
+		CreateEmployeeDto employee = toValidatedCreateRequest(employeeInput);
+		try {
+			log.debug("Calling service to create an employee");
 
+			HttpEntity<CreateEmployeeDto> requestEntity = new HttpEntity<>(employee);
+			ResponseEntity<EmployeeResponse> employeeResponseEntity = restTemplateService.createEmployee(
+					ApiConstants.GET_EMPLOYEE_URL, HttpMethod.POST, requestEntity, EmployeeResponse.class);
+
+			log.debug("Response of Request :{} ", employeeResponseEntity.getBody().getData());
+			Employee created = employeeResponseEntity.getBody().getData();
+			employeeRosterCache.invalidate(created.getId());
+			return employeeRosterCache.remember(created);
+
+		} catch (ResourceAccessException e) {
+			throw new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE,"Failed to connect to employee service");
+		} catch (Exception e) {
+			throw new EmployeeException(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected  error occurred");
+		}
+	}
+
+	@Override
+	public CreateEmployeeJob createEmployeeAsync(Object employeeInput) {
+		CreateEmployeeDto employee = toValidatedCreateRequest(employeeInput);
+		log.debug("Queueing employee create request");
+		return employeeCreateQueue.submit(employee);
+	}
+
+	@Override
+	public CreateEmployeeJob getCreateEmployeeJob(String jobId) {
+		return employeeCreateQueue.find(jobId).orElseThrow(() -> {
+			log.error("Employee create job {} not found", jobId);
+			return new EmployeeException(HttpStatus.NOT_FOUND, "Employee create job " + jobId + " not found");
+		});
+	}
+
+	private CreateEmployeeDto toValidatedCreateRequest(Object employeeInput) {
 		try {
-			employee = objectMapper.convertValue(employeeInput, CreateEmployeeDto.class);
+			// Bodies bound by the controller arrive typed; only other callers need the conversion.
+			CreateEmployeeDto employee = employeeInput instanceof CreateEmployeeDto dto ? dto
+					: objectMapper.convertValue(employeeInput, CreateEmployeeDto.class);
 			String valid = validateNewEmployeeRequest(employee);
 			if(!valid.isEmpty()) {
 				log.error("Validation failed");
 				throw new EmployeeException(HttpStatus.BAD_REQUEST,"Validation failed:- "+valid);
 			}
+			return employee;
 		} catch (IllegalArgumentException e) {
 			log.error("Invalid Employee Input:");
 			throw new EmployeeException(HttpStatus.BAD_REQUEST, "Invalid Employee Input: " + e.getMessage());
 		}
-		try {
-			log.debug("Calling service to create an employee");
+	}
 
-			HttpEntity<CreateEmployeeDto> requestEntity = new HttpEntity<>(employee);
-			ResponseEntity<EmployeeResponse> employeeResponseEntity = restTemplateService.createEmployee(
-					ApiConstants.GET_EMPLOYEE_URL, HttpMethod.POST, requestEntity, EmployeeResponse.class);
+	private static String toValidatedId(String id) {
+		if (!EmployeeIds.isValid(id)) {
+			log.error("Invalid employee ID {}", id);
+			throw new EmployeeException(HttpStatus.BAD_REQUEST, "Invalid employee ID " + id);
+		}
+		return EmployeeIds.canonical(id);
+	}
 
-			log.debug("Response of Request :{} ", employeeResponseEntity.getBody().getData());
-			return employeeResponseEntity.getBody().getData();
+	private RosterIndex.Query toValidatedQuery(EmployeeQuery query) {
+		checkRange("salary", query.getMinSalary(), query.getMaxSalary());
+		checkRange("age", query.getMinAge(), query.getMaxAge());
 
-		} catch (ResourceAccessException e) {
-			throw new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE,"Failed to connect to employee service");
-		} catch (Exception e) {
-			throw new EmployeeException(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected  error occurred");
+		RosterIndex.Field sort = null;
+		if (query.getSort() != null && !query.getSort().isBlank()) {
+			try {
+				sort = RosterIndex.Field.valueOf(query.getSort().trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new EmployeeException(HttpStatus.BAD_REQUEST,
+						"Cannot sort by " + query.getSort() + "; use salary or age");
+			}
+		}
+
+		String order = query.getOrder() == null || query.getOrder().isBlank() ? "asc" : query.getOrder().trim();
+		if (!order.equalsIgnoreCase("asc") && !order.equalsIgnoreCase("desc")) {
+			throw new EmployeeException(HttpStatus.BAD_REQUEST, "Order must be asc or desc");
+		}
+
+		int limit = query.getLimit() == null ? ApiConstants.DEFAULT_QUERY_LIMIT : query.getLimit();
+		if (limit < 1 || limit > ApiConstants.MAX_QUERY_LIMIT) {
+			throw new EmployeeException(HttpStatus.BAD_REQUEST,
+					"Limit must be between 1 and " + ApiConstants.MAX_QUERY_LIMIT);
+		}
+		return new RosterIndex.Query(query.getMinSalary(), query.getMaxSalary(), query.getMinAge(),
+				query.getMaxAge(), query.getTitle(), sort, order.equalsIgnoreCase("desc"), limit);
+	}
+
+	private static void checkRange(String field, Integer min, Integer max) {
+		if (min != null && max != null && min > max) {
+			throw new EmployeeException(HttpStatus.BAD_REQUEST,
+					"Minimum " + field + " " + min + " is above maximum " + max);
 		}
 	}
 
 	private String validateNewEmployeeRequest(CreateEmployeeDto employee) {
-		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-		Set<ConstraintViolation<CreateEmployeeDto>> violations = validator.validate(employee);
+		Set<ConstraintViolation<CreateEmployeeDto>> violations = VALIDATOR.validate(employee);
 
 		if (!violations.isEmpty()) {
 			StringBuilder errors = new StringBuilder();
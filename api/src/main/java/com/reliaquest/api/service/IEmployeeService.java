@@ -4,7 +4,10 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.reliaquest.api.model.CreateEmployeeJob;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatch;
+import com.reliaquest.api.model.EmployeeQuery;
 
 @Service
 public interface IEmployeeService {
@@ -15,6 +18,10 @@ public interface IEmployeeService {
 
     Employee getEmployeeById(String id);
 
+    EmployeeBatch getEmployeesByIds(List<String> ids);
+
+    List<Employee> queryEmployees(EmployeeQuery query);
+
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTopTenHighestEarningEmployeeNames();
@@ -23,4 +30,8 @@ public interface IEmployeeService {
     
     Employee createEmployee(Object employee);
 
+    CreateEmployeeJob createEmployeeAsync(Object employee);
+
+    CreateEmployeeJob getCreateEmployeeJob(String jobId);
+
 }
@@ -0,0 +1,198 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.utils.LatencyHistogram;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency histograms per endpoint, each split into the request's total time and its upstream, compute and
+ * serialization phases. Upstream is time spent in upstream calls on the request thread, serialization is time spent
+ * writing the response body, and compute is the rest.
+ *
+ * <p>Readers see intervals: {@link Interval#next()} reports what was recorded since the same reader last asked. The
+ * {@code /metrics/latency} endpoint keeps one reader; when {@code dumpFile} is set, another appends each
+ * {@code dumpInterval} to it as one JSON line, so SLOs can be tracked from the file without an APM agent.
+ */
+@Component
+@Slf4j
+public class LatencyRecorder {
+
+    /** The phases of a request, in the order they are reported. */
+    public enum Phase {
+        TOTAL, UPSTREAM, COMPUTE, SERIALIZATION
+    }
+
+    private static final Map<String, Double> PERCENTILES = percentiles();
+
+    private final ObjectMapper objectMapper;
+    private final String dumpFile;
+    private final Duration dumpInterval;
+
+    private final Map<String, LatencyHistogram[]> endpoints = new ConcurrentHashMap<>();
+    private final Interval endpointInterval = interval();
+
+    private ScheduledExecutorService dumper;
+
+    @Autowired
+    public LatencyRecorder(
+            ObjectMapper objectMapper,
+            @Value("${employee.latency.dump-file:}") String dumpFile,
+            @Value("${employee.latency.dump-interval:60s}") Duration dumpInterval) {
+        this.objectMapper = objectMapper;
+        this.dumpFile = dumpFile;
+        this.dumpInterval = dumpInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        if (dumpFile == null || dumpFile.isBlank()) {
+            return;
+        }
+        final Interval fileInterval = interval();
+        final Path path = Path.of(dumpFile);
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(
+                () -> dump(fileInterval, path),
+                dumpInterval.toMillis(), dumpInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Dumping endpoint latency histograms to {} every {}s", path, dumpInterval.toSeconds());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+        }
+    }
+
+    /** Records one request to {@code endpoint}, with each phase in microseconds. */
+    public void record(String endpoint, long totalMicros, long upstreamMicros, long computeMicros,
+            long serializationMicros) {
+        final LatencyHistogram[] phases = endpoints.computeIfAbsent(endpoint, key -> newPhases());
+        phases[Phase.TOTAL.ordinal()].record(totalMicros);
+        phases[Phase.UPSTREAM.ordinal()].record(upstreamMicros);
+        phases[Phase.COMPUTE.ordinal()].record(computeMicros);
+        phases[Phase.SERIALIZATION.ordinal()].record(serializationMicros);
+    }
+
+    /** Summary of what was recorded since the previous call, for the metrics endpoint. */
+    public Map<String, Object> nextInterval() {
+        return endpointInterval.next();
+    }
+
+    /** A new reader whose first interval starts now. */
+    public Interval interval() {
+        return new Interval();
+    }
+
+    private void dump(Interval interval, Path path) {
+        try {
+            final byte[] line = (objectMapper.writeValueAsString(interval.next()) + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            Files.write(path, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not dump latency histograms to {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static LatencyHistogram[] newPhases() {
+        final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        return phases;
+    }
+
+    private static Map<String, Object> summary(LatencyHistogram.Snapshot snapshot) {
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        PERCENTILES.forEach((name, percentile) -> summary.put(name, millis(snapshot.percentile(percentile))));
+        summary.put("max", millis(snapshot.max()));
+        summary.put("mean", Math.round(snapshot.mean()) / 1000.0);
+        return summary;
+    }
+
+    private static Map<String, Double> percentiles() {
+        final Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", 50.0);
+        percentiles.put("p90", 90.0);
+        percentiles.put("p99", 99.0);
+        percentiles.put("p999", 99.9);
+        return percentiles;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /** One reader's view of the histograms, reporting each time what was recorded since its previous report. */
+    public final class Interval {
+
+        // Guarded by this.
+        private final Map<String, LatencyHistogram.Snapshot[]> previous = new HashMap<>();
+        private Instant start = Instant.now();
+
+        private Interval() {
+            endpoints.forEach((endpoint, phases) -> previous.put(endpoint, snapshots(phases)));
+        }
+
+        /**
+         * Phase summaries per endpoint, in milliseconds, since the previous call:
+         * {@code {"start", "end", "endpoints": {endpoint: {phase: {"count", "p50", ..., "max", "mean"}}}}}.
+         */
+        public synchronized Map<String, Object> next() {
+            final Instant end = Instant.now();
+            final Map<String, Object> byEndpoint = new TreeMap<>();
+            endpoints.forEach((endpoint, phases) -> {
+                final LatencyHistogram.Snapshot[] current = snapshots(phases);
+                final LatencyHistogram.Snapshot[] earlier = previous.get(endpoint);
+                final Map<String, Object> byPhase = new LinkedHashMap<>();
+                for (Phase phase : Phase.values()) {
+                    final LatencyHistogram.Snapshot now = current[phase.ordinal()];
+                    byPhase.put(phase.name().toLowerCase(Locale.ROOT),
+                            summary(earlier == null ? now : now.minus(earlier[phase.ordinal()])));
+                }
+                previous.put(endpoint, current);
+                byEndpoint.put(endpoint, byPhase);
+            });
+            final Map<String, Object> report = new LinkedHashMap<>();
+            report.put("start", start.toString());
+            report.put("end", end.toString());
+            report.put("endpoints", byEndpoint);
+            start = end;
+            return report;
+        }
+
+        private LatencyHistogram.Snapshot[] snapshots(LatencyHistogram[] phases) {
+            final LatencyHistogram.Snapshot[] snapshots = new LatencyHistogram.Snapshot[phases.length];
+            for (int i = 0; i < phases.length; i++) {
+                snapshots[i] = phases[i].snapshot();
+            }
+            return snapshots;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.reliaquest.api.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Hedges idempotent upstream reads against tail latency. When an attempt has not answered within {@code percentile} of
+ * recent attempt latencies, an identical second attempt is sent and whichever answers first is used; a transport or
+ * server failure of one attempt falls back to the other. Hedging starts once enough latencies have been recorded.
+ *
+ * <p>Hedges are paid from a budget that every call tops up by {@code budgetRatio} of a hedge, so hedging adds at most
+ * that fraction of upstream requests. The upstream answering 429 empties the budget, so that hedges never push a
+ * rate-limited client further over its limit.
+ *
+ * <p>Attempts run on a bounded pool. When it is full, a primary attempt runs on the calling thread and a hedge is
+ * skipped, and the attempt that loses a race is cancelled by interrupting its thread.
+ */
+@Component
+@Slf4j
+public class RequestHedger {
+
+    private static final int WINDOW = 1_000;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 50;
+    private static final long HEDGE_COST = 1_000_000;
+    private static final int MAX_BANKED_HEDGES = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long deposit;
+    private final ExecutorService executor;
+
+    // Recent attempt latencies, as a ring buffer; guarded by itself.
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount;
+    private int nextSample;
+    private int sinceRecompute;
+    private volatile long hedgeDelayNanos = -1;
+
+    private final AtomicLong budget = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+
+    @Autowired
+    public RequestHedger(
+            @Value("${employee.hedging.enabled:false}") boolean enabled,
+            @Value("${employee.hedging.percentile:95}") double percentile,
+            @Value("${employee.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${employee.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${employee.hedging.max-threads:64}") int maxThreads) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.deposit = Math.round(budgetRatio * HEDGE_COST);
+        this.executor = enabled ? newExecutor(maxThreads) : null;
+        if (enabled) {
+            log.info("Hedging upstream reads after p{} latency, budget {} hedges per read", percentile, budgetRatio);
+        }
+    }
+
+    /** A hedger that runs every call once, on the calling thread. */
+    public static RequestHedger disabled() {
+        return new RequestHedger(false, 0, Duration.ZERO, 0, 0);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Runs {@code call}, sending a second attempt if the first is slow and the budget allows. */
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        budget.updateAndGet(banked -> Math.min(MAX_BANKED_HEDGES * HEDGE_COST, banked + deposit));
+
+        final CompletableFuture<T> primary;
+        try {
+            primary = attempt(call);
+        } catch (RejectedExecutionException e) {
+            return inline(call);
+        }
+        final long delay = hedgeDelayNanos;
+        if (delay < 0) {
+            return join(primary);
+        }
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slow enough to hedge, if the budget allows.
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return join(primary);
+        }
+        if (!spend()) {
+            return join(primary);
+        }
+        final CompletableFuture<T> hedge;
+        try {
+            hedge = attempt(call);
+        } catch (RejectedExecutionException e) {
+            // Every hedge thread is busy; a hedge on the request thread would only hold it longer.
+            budget.addAndGet(HEDGE_COST);
+            return join(primary);
+        }
+        hedges.incrementAndGet();
+        log.debug("Hedging upstream read after {}ms", TimeUnit.NANOSECONDS.toMillis(delay));
+        return firstOf(primary, hedge);
+    }
+
+    /** Delay before a hedge is sent, or {@code null} while too few latencies have been recorded. */
+    public Duration hedgeDelay() {
+        final long delay = hedgeDelayNanos;
+        return delay < 0 ? null : Duration.ofNanos(delay);
+    }
+
+    long hedgeCount() {
+        return hedges.get();
+    }
+
+    // Starts call on the pool, throwing RejectedExecutionException when every thread is busy. Cancelling the
+    // returned future interrupts the attempt, which ends a wait for a pooled connection straight away.
+    private <T> CompletableFuture<T> attempt(Supplier<T> call) {
+        final long start = System.nanoTime();
+        final var result = new CompletableFuture<T>();
+        final Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            } else {
+                observe(start, failure);
+            }
+        });
+        return result;
+    }
+
+    private <T> T inline(Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            final T result = call.get();
+            observe(start, null);
+            return result;
+        } catch (RuntimeException e) {
+            observe(start, e);
+            throw e;
+        }
+    }
+
+    private void observe(long start, Throwable failure) {
+        final Throwable cause = unwrap(failure);
+        if (cause instanceof HttpClientErrorException e && e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+            budget.set(0);
+        } else if (cause == null || cause instanceof HttpClientErrorException) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    // Completes with the first success or definitive failure; a retryable failure waits for the other attempt.
+    private <T> T firstOf(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        final var winner = new CompletableFuture<T>();
+        final var failures = new AtomicInteger();
+        final BiConsumer<T, Throwable> race = (result, failure) -> {
+            if (failure == null) {
+                winner.complete(result);
+            } else if (!isRetryable(unwrap(failure)) || failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(unwrap(failure));
+            }
+        };
+        primary.whenComplete(race);
+        hedge.whenComplete(race);
+        winner.whenComplete((result, failure) -> {
+            primary.cancel(true);
+            hedge.cancel(true);
+        });
+        return join(winner);
+    }
+
+    private boolean spend() {
+        long banked;
+        do {
+            banked = budget.get();
+            if (banked < HEDGE_COST) {
+                return false;
+            }
+        } while (!budget.compareAndSet(banked, banked - HEDGE_COST));
+        return true;
+    }
+
+    private void record(long latencyNanos) {
+        synchronized (samples) {
+            samples[nextSample] = latencyNanos;
+            nextSample = (nextSample + 1) % samples.length;
+            sampleCount = Math.min(sampleCount + 1, samples.length);
+            // Sorting the window on every call would cost more than the percentile moves between recomputes.
+            if (sampleCount >= MIN_SAMPLES && (hedgeDelayNanos < 0 || ++sinceRecompute >= RECOMPUTE_EVERY)) {
+                sinceRecompute = 0;
+                final long[] sorted = Arrays.copyOf(samples, sampleCount);
+                Arrays.sort(sorted);
+                final int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+                hedgeDelayNanos = Math.max(minDelayNanos, sorted[Math.max(0, Math.min(rank, sorted.length - 1))]);
+            }
+        }
+    }
+
+    private static boolean isRetryable(Throwable failure) {
+        return failure instanceof ResourceAccessException
+                || failure instanceof HttpServerErrorException
+                || (failure instanceof HttpClientErrorException e
+                        && e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            return e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        return new CompletionException(failure);
+    }
+
+    // Rejects work once every thread is busy, rather than queueing it behind slow attempts.
+    private static ExecutorService newExecutor(int maxThreads) {
+        final var threads = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                0,
+                maxThreads,
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    final var thread = new Thread(runnable, "upstream-hedge-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
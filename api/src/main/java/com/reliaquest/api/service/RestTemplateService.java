@@ -1,8 +1,22 @@
 package com.reliaquest.api.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.reliaquest.api.model.*;
+import com.reliaquest.api.utils.ApiConstants;
+import com.reliaquest.api.utils.RequestTimings;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -10,33 +24,105 @@ import org.springframework.web.client.RestTemplate;
 @Service
 public class RestTemplateService {
 
+    /**
+     * Read requests ask the upstream for Smile first and fall back to JSON, so full-roster transfers skip
+     * text parsing and the repeated {@code employee_*} keys whenever the upstream supports it.
+     */
+    static final HttpEntity<Void> BINARY_PREFERRED_READ = new HttpEntity<>(binaryPreferredHeaders());
+
+    private static final MediaType SMILE = MediaType.parseMediaType(ApiConstants.SMILE_MEDIA_TYPE);
+    private static final ObjectReader JSON_EMPLOYEE_READER = new ObjectMapper().readerFor(Employee.class);
+    private static final ObjectReader SMILE_EMPLOYEE_READER = new SmileMapper().readerFor(Employee.class);
+
     private  RestTemplate restTemplate;
 
+    private final RequestHedger requestHedger;
+
     public RestTemplateService(RestTemplate restTemplate) {
+        this(restTemplate, RequestHedger.disabled());
+    }
+
+    @Autowired
+    public RestTemplateService(RestTemplate restTemplate, RequestHedger requestHedger) {
         this.restTemplate = restTemplate;
+        this.requestHedger = requestHedger;
     }
 
     public ResponseEntity<EmployeeList> getAllEmployeesList(String baseUrl, HttpMethod httpMethod,
                                                             Class<EmployeeList> employeeClass) {
-        return restTemplate.exchange(baseUrl, httpMethod, null, employeeClass);
+        return RequestTimings.upstream(
+                () -> restTemplate.exchange(baseUrl, httpMethod, BINARY_PREFERRED_READ, employeeClass));
+    }
+
+    /**
+     * Reads the upstream roster one employee at a time and hands each to {@code consumer} as soon as it is parsed,
+     * so that only the employee being parsed and the stream's read buffer are held, however long the roster. Time
+     * spent in {@code consumer} counts as upstream time of the request, since the two interleave.
+     */
+    public void streamAllEmployees(String baseUrl, Consumer<Employee> consumer) {
+        RequestTimings.upstream(() -> restTemplate.execute(
+                baseUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().putAll(BINARY_PREFERRED_READ.getHeaders()),
+                response -> {
+                    final boolean smile = SMILE.isCompatibleWith(response.getHeaders().getContentType());
+                    final ObjectReader reader = smile ? SMILE_EMPLOYEE_READER : JSON_EMPLOYEE_READER;
+                    try (JsonParser parser = reader.createParser(response.getBody())) {
+                        readData(parser, reader, consumer);
+                    }
+                    return null;
+                }));
+    }
+
+    // Walks {"data": [...], ...}, binding each element of data and skipping every other field.
+    private static void readData(JsonParser parser, ObjectReader reader, Consumer<Employee> consumer)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an employee list object, got " + parser.currentToken());
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken value = parser.nextToken();
+            if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                    if (element == JsonToken.START_OBJECT) {
+                        consumer.accept(reader.readValue(parser, Employee.class));
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
     }
 
     public ResponseEntity<EmployeeResponse> getEmployeeById(String baseUrl, HttpMethod httpMethod,
                                                             Class<EmployeeResponse> employeeClass,
                                                             String employeeId) {
-        return restTemplate.exchange(baseUrl, httpMethod, null, employeeClass, employeeId);
+        return RequestTimings.upstream(() -> requestHedger.execute(
+                () -> restTemplate.exchange(baseUrl, httpMethod, BINARY_PREFERRED_READ, employeeClass, employeeId)));
     }
 
-    public ResponseEntity<DeleteEmployeeResponse> deleteEmployeeByName(String baseUrl, HttpMethod httpMethod,
-                                                                       HttpEntity<DeleteEmployeeInput>
-                                                                         deleteEmployeeInputEntity) {
-      return restTemplate.exchange(baseUrl, httpMethod, deleteEmployeeInputEntity, DeleteEmployeeResponse.class);
+    public ResponseEntity<EmployeeResponse> deleteEmployeeById(String baseUrl, HttpMethod httpMethod,
+                                                               Class<EmployeeResponse> employeeClass,
+                                                               String employeeId) {
+        return RequestTimings.upstream(
+                () -> restTemplate.exchange(baseUrl, httpMethod, BINARY_PREFERRED_READ, employeeClass, employeeId));
     }
 
     public ResponseEntity<EmployeeResponse> createEmployee(String baseUrl, HttpMethod httpMethod,
                                                            HttpEntity<CreateEmployeeDto> employee,
                                                            Class<EmployeeResponse> employeeResponseClass) {
-        return restTemplate.exchange(baseUrl, httpMethod, employee, employeeResponseClass);
+        return RequestTimings.upstream(
+                () -> restTemplate.exchange(baseUrl, httpMethod, employee, employeeResponseClass));
+    }
+
+    private static HttpHeaders binaryPreferredHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(
+                MediaType.parseMediaType(ApiConstants.SMILE_MEDIA_TYPE),
+                new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.9"))));
+        return HttpHeaders.readOnlyHttpHeaders(headers);
     }
 
 }
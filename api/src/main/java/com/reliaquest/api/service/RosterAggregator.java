@@ -0,0 +1,213 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary and name aggregations over a roster that switch to parallel execution for large rosters. Below
+ * {@code parallelThreshold} employees an operation is a single loop on the calling thread; above it the roster is
+ * split into index ranges on a dedicated fork-join pool, each range computes a partial result (a maximum, a bounded
+ * top-k heap, or a list of matches) and the partials are merged pairwise. Results are identical either way: ties in
+ * salary keep roster order, and name matches come back in roster order.
+ */
+@Component
+@Slf4j
+public class RosterAggregator {
+
+    // Smaller ranges cost more in task overhead than they gain in parallelism.
+    private static final int MIN_RANGE = 8_192;
+
+    @Getter
+    private final int parallelism;
+
+    @Getter
+    private final int parallelThreshold;
+
+    private final ForkJoinPool pool;
+
+    public RosterAggregator(
+            @Value("${employee.aggregation.parallelism:0}") int parallelism,
+            @Value("${employee.aggregation.parallel-threshold:200000}") int parallelThreshold) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.parallelThreshold = parallelThreshold;
+        this.pool = new ForkJoinPool(
+                this.parallelism,
+                forkJoinPool -> {
+                    ForkJoinWorkerThread thread =
+                            ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("roster-aggregator-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null,
+                false);
+        log.debug("Roster aggregation runs on {} threads above {} employees", this.parallelism, parallelThreshold);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /** The highest salary in the roster, or 0 when no employee has one. */
+    public int maxSalary(List<Employee> employees) {
+        final List<Employee> roster = randomAccess(employees);
+        final int max = aggregate(roster, (from, to) -> maxSalary(roster, from, to), Math::max);
+        return max == Integer.MIN_VALUE ? 0 : max;
+    }
+
+    /** The {@code k} best paid employees, highest salary first; equal salaries keep roster order. */
+    public List<Employee> topBySalary(List<Employee> employees, int k) {
+        final List<Employee> roster = randomAccess(employees);
+        final Comparator<Integer> worstFirst = worstFirst(roster);
+        final PriorityQueue<Integer> top = aggregate(
+                roster, (from, to) -> topBySalary(roster, from, to, k, worstFirst), (left, right) -> {
+                    for (Integer index : right) {
+                        offer(left, index, k, worstFirst);
+                    }
+                    return left;
+                });
+        final List<Integer> best = new ArrayList<>(top);
+        best.sort(worstFirst.reversed());
+        final List<Employee> result = new ArrayList<>(best.size());
+        for (Integer index : best) {
+            result.add(roster.get(index));
+        }
+        return result;
+    }
+
+    /** Employees whose name contains {@code fragment}, ignoring case, in roster order. */
+    public List<Employee> filterByName(List<Employee> employees, String fragment) {
+        final List<Employee> roster = randomAccess(employees);
+        return aggregate(roster, (from, to) -> filterByName(roster, from, to, fragment), (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    private <R> R aggregate(List<Employee> roster, RangeFunction<R> range, BinaryOperator<R> merge) {
+        final int size = roster.size();
+        if (size < parallelThreshold || parallelism == 1) {
+            return range.apply(0, size);
+        }
+        final int rangeSize = Math.max(MIN_RANGE, size / (parallelism * 4));
+        return pool.invoke(new RangeTask<>(range, merge, 0, size, rangeSize));
+    }
+
+    private static int maxSalary(List<Employee> roster, int from, int to) {
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            final Integer salary = roster.get(i).getSalary();
+            if (salary != null && salary > max) {
+                max = salary;
+            }
+        }
+        return max;
+    }
+
+    private static PriorityQueue<Integer> topBySalary(
+            List<Employee> roster, int from, int to, int k, Comparator<Integer> worstFirst) {
+        final PriorityQueue<Integer> top = new PriorityQueue<>(k + 1, worstFirst);
+        for (int i = from; i < to; i++) {
+            if (roster.get(i).getSalary() != null) {
+                offer(top, i, k, worstFirst);
+            }
+        }
+        return top;
+    }
+
+    // Keeps the k best indices; the head of the heap is the worst of them and the first to go.
+    private static void offer(PriorityQueue<Integer> top, Integer index, int k, Comparator<Integer> worstFirst) {
+        if (top.size() < k) {
+            top.add(index);
+        } else if (k > 0 && worstFirst.compare(index, top.peek()) > 0) {
+            top.poll();
+            top.add(index);
+        }
+    }
+
+    // Lower salary is worse; on equal salaries the later employee is worse, matching a stable descending sort.
+    private static Comparator<Integer> worstFirst(List<Employee> roster) {
+        return (left, right) -> {
+            final int bySalary = Integer.compare(
+                    roster.get(left).getSalary(), roster.get(right).getSalary());
+            return bySalary != 0 ? bySalary : Integer.compare(right, left);
+        };
+    }
+
+    private static List<Employee> filterByName(List<Employee> roster, int from, int to, String fragment) {
+        final List<Employee> matches = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            final Employee employee = roster.get(i);
+            if (containsIgnoreCase(employee.getName(), fragment)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    // Allocation-free equivalent of name.toLowerCase().contains(fragment.toLowerCase()).
+    static boolean containsIgnoreCase(String name, String fragment) {
+        if (name == null) {
+            return false;
+        }
+        final int last = name.length() - fragment.length();
+        for (int offset = 0; offset <= last; offset++) {
+            if (name.regionMatches(true, offset, fragment, 0, fragment.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Employee> randomAccess(List<Employee> employees) {
+        return employees instanceof RandomAccess ? employees : new ArrayList<>(employees);
+    }
+
+    @FunctionalInterface
+    private interface RangeFunction<R> {
+        R apply(int from, int to);
+    }
+
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+
+        private final RangeFunction<R> range;
+        private final BinaryOperator<R> merge;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        private RangeTask(RangeFunction<R> range, BinaryOperator<R> merge, int from, int to, int rangeSize) {
+            this.range = range;
+            this.merge = merge;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= rangeSize) {
+                return range.apply(from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final var left = new RangeTask<>(range, merge, from, middle, rangeSize);
+            left.fork();
+            final R right = new RangeTask<>(range, merge, middle, to, rangeSize).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+}
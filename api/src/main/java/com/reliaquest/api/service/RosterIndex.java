@@ -0,0 +1,321 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.EncodedEmployee;
+import com.reliaquest.api.model.EncodedEmployeeList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sorted indexes over one roster snapshot, so that a filtered read only touches the employees it can return. Salary
+ * and age each keep their values in a primitive array in ascending order, next to the roster position each value came
+ * from; titles map, ignoring case, to the ascending positions of the employees that hold them.
+ *
+ * <p>A query binary-searches each of its ranges, walks the predicate with the fewest candidates and checks the others
+ * per candidate. When the walked index is also the requested order it stops after {@code limit} matches, for
+ * O(log n + k); otherwise it orders the m candidates it found, for O(log n + m log m). Equal sort values keep roster
+ * order, and employees without the sort value come last. The indexes are built by the first query, not when the
+ * snapshot is loaded.
+ */
+public final class RosterIndex {
+
+    private final EncodedEmployeeList employees;
+    private volatile Indexes indexes;
+
+    RosterIndex(EncodedEmployeeList employees) {
+        this.employees = employees;
+    }
+
+    /** Employees matching every set predicate of {@code query}, in the requested order, at most {@code limit}. */
+    public EncodedEmployeeList query(Query query) {
+        final Indexes built = indexes();
+        final String title = normalize(query.title());
+
+        final Candidates bySalary = built.salary().range(query.minSalary(), query.maxSalary());
+        final Candidates byAge = built.age().range(query.minAge(), query.maxAge());
+        final int[] byTitle = title == null ? null : built.titles().getOrDefault(title, new int[0]);
+
+        Candidates driver = null;
+        if (bySalary != null) {
+            driver = bySalary;
+        }
+        if (byAge != null && (driver == null || byAge.size() < driver.size())) {
+            driver = byAge;
+        }
+        if (byTitle != null && (driver == null || byTitle.length < driver.size())) {
+            return ordered(collect(byTitle, query, title), query);
+        }
+        if (driver == null) {
+            if (query.sort() == null) {
+                return collectInOrder(query, title);
+            }
+            driver = built.index(query.sort()).all();
+        }
+        if (driver.index().field() == query.sort()) {
+            return walk(driver, query, title);
+        }
+        return ordered(collect(driver.positions(), query, title), query);
+    }
+
+    /** Builds the indexes now, so that the first query does not pay for them. */
+    void build() {
+        indexes();
+    }
+
+    // Walks a range of the index that is also the requested order, stopping at the limit.
+    private EncodedEmployeeList walk(Candidates range, Query query, String title) {
+        final List<EncodedEmployee> result = new ArrayList<>(Math.min(query.limit(), range.size()));
+        final int[] keys = range.index().keys();
+        final int[] positions = range.index().positions();
+        if (!query.descending()) {
+            for (int i = range.from(); i < range.to() && result.size() < query.limit(); i++) {
+                addIfMatches(result, positions[i], query, title);
+            }
+        } else {
+            int end = range.to();
+            while (end > range.from() && result.size() < query.limit()) {
+                // Walk each run of equal values forwards, so that ties keep roster order.
+                int start = end - 1;
+                while (start > range.from() && keys[start - 1] == keys[end - 1]) {
+                    start--;
+                }
+                for (int i = start; i < end && result.size() < query.limit(); i++) {
+                    addIfMatches(result, positions[i], query, title);
+                }
+                end = start;
+            }
+        }
+        if (range.includesMissing()) {
+            final int[] missing = range.index().missing();
+            for (int i = 0; i < missing.length && result.size() < query.limit(); i++) {
+                addIfMatches(result, missing[i], query, title);
+            }
+        }
+        return new EncodedEmployeeList(result);
+    }
+
+    private EncodedEmployeeList collectInOrder(Query query, String title) {
+        final List<EncodedEmployee> result = new ArrayList<>(Math.min(query.limit(), employees.size()));
+        for (int i = 0; i < employees.size() && result.size() < query.limit(); i++) {
+            addIfMatches(result, i, query, title);
+        }
+        return new EncodedEmployeeList(result);
+    }
+
+    private int[] collect(int[] candidates, Query query, String title) {
+        final int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int position : candidates) {
+            if (matches(employees.get(position), query, title)) {
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    // Orders matched positions by sort value and then roster position, packed into longs to sort them unboxed.
+    private EncodedEmployeeList ordered(int[] matches, Query query) {
+        final long[] keyed = new long[matches.length];
+        final int[] missing = new int[matches.length];
+        int count = 0;
+        int missingCount = 0;
+        for (int position : matches) {
+            final Integer value = query.sort() == null ? Integer.valueOf(0) : valueOf(query.sort(), position);
+            if (value == null) {
+                missing[missingCount++] = position;
+            } else {
+                keyed[count++] = pack(query.descending() ? ~value : value, position);
+            }
+        }
+        Arrays.sort(keyed, 0, count);
+        Arrays.sort(missing, 0, missingCount);
+
+        final List<EncodedEmployee> result = new ArrayList<>(Math.min(query.limit(), matches.length));
+        for (int i = 0; i < count && result.size() < query.limit(); i++) {
+            result.add(employees.get((int) keyed[i]));
+        }
+        for (int i = 0; i < missingCount && result.size() < query.limit(); i++) {
+            result.add(employees.get(missing[i]));
+        }
+        return new EncodedEmployeeList(result);
+    }
+
+    private void addIfMatches(List<EncodedEmployee> result, int position, Query query, String title) {
+        final EncodedEmployee employee = employees.get(position);
+        if (matches(employee, query, title)) {
+            result.add(employee);
+        }
+    }
+
+    private static boolean matches(EncodedEmployee employee, Query query, String title) {
+        return inRange(employee.getSalary(), query.minSalary(), query.maxSalary())
+                && inRange(employee.getAge(), query.minAge(), query.maxAge())
+                && (title == null || title.equals(normalize(employee.getTitle())));
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private Integer valueOf(Field field, int position) {
+        return field.value.apply(employees.get(position));
+    }
+
+    private Indexes indexes() {
+        Indexes built = indexes;
+        if (built == null) {
+            synchronized (this) {
+                built = indexes;
+                if (built == null) {
+                    built = new Indexes(sorted(Field.SALARY), sorted(Field.AGE), titles());
+                    indexes = built;
+                }
+            }
+        }
+        return built;
+    }
+
+    private SortedIndex sorted(Field field) {
+        final long[] keyed = new long[employees.size()];
+        final int[] missing = new int[employees.size()];
+        int count = 0;
+        int missingCount = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            final Integer value = valueOf(field, i);
+            if (value == null) {
+                missing[missingCount++] = i;
+            } else {
+                keyed[count++] = pack(value, i);
+            }
+        }
+        Arrays.sort(keyed, 0, count);
+        final int[] keys = new int[count];
+        final int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = (int) (keyed[i] >> 32);
+            positions[i] = (int) keyed[i];
+        }
+        return new SortedIndex(field, keys, positions, Arrays.copyOf(missing, missingCount));
+    }
+
+    private Map<String, int[]> titles() {
+        final Map<String, int[]> postings = new HashMap<>();
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < employees.size(); i++) {
+            final String title = normalize(employees.get(i).getTitle());
+            if (title != null) {
+                counts.merge(title, 1, Integer::sum);
+            }
+        }
+        counts.forEach((title, count) -> postings.put(title, new int[count]));
+        counts.replaceAll((title, count) -> 0);
+        for (int i = 0; i < employees.size(); i++) {
+            final String title = normalize(employees.get(i).getTitle());
+            if (title != null) {
+                postings.get(title)[counts.merge(title, 1, Integer::sum) - 1] = i;
+            }
+        }
+        return postings;
+    }
+
+    // Signed value in the high half, roster position in the low half: sorting the longs sorts by value, then position.
+    private static long pack(int value, int position) {
+        return ((long) value << 32) | (position & 0xffffffffL);
+    }
+
+    private static String normalize(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** The fields an employee query can sort by. */
+    public enum Field {
+        SALARY(EncodedEmployee::getSalary),
+        AGE(EncodedEmployee::getAge);
+
+        private final Function<EncodedEmployee, Integer> value;
+
+        Field(Function<EncodedEmployee, Integer> value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A validated query: inclusive bounds, or {@code null} for none; an exact title, ignoring case; the sort field, or
+     * {@code null} for roster order; and the maximum number of employees to return.
+     */
+    public record Query(
+            Integer minSalary,
+            Integer maxSalary,
+            Integer minAge,
+            Integer maxAge,
+            String title,
+            Field sort,
+            boolean descending,
+            int limit) {}
+
+    private record Indexes(SortedIndex salary, SortedIndex age, Map<String, int[]> titles) {
+
+        SortedIndex index(Field field) {
+            return field == Field.SALARY ? salary : age;
+        }
+    }
+
+    /** One field's values in ascending order, where each came from, and the positions that have no value. */
+    private record SortedIndex(Field field, int[] keys, int[] positions, int[] missing) {
+
+        /** The entries within the bounds, or {@code null} when there are no bounds. */
+        Candidates range(Integer min, Integer max) {
+            if (min == null && max == null) {
+                return null;
+            }
+            final int from = min == null ? 0 : firstAtLeast(min);
+            final int to = max == null ? keys.length : max == Integer.MAX_VALUE ? keys.length : firstAtLeast(max + 1);
+            return new Candidates(this, from, Math.max(from, to), false);
+        }
+
+        Candidates all() {
+            return new Candidates(this, 0, keys.length, true);
+        }
+
+        private int firstAtLeast(int value) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (keys[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Candidates(SortedIndex index, int from, int to, boolean includesMissing) {
+
+        int size() {
+            return to - from + (includesMissing ? index.missing().length : 0);
+        }
+
+        int[] positions() {
+            final int[] positions = Arrays.copyOfRange(index.positions(), from, to);
+            if (!includesMissing) {
+                return positions;
+            }
+            final int[] all = Arrays.copyOf(positions, positions.length + index.missing().length);
+            System.arraycopy(index.missing(), 0, all, positions.length, index.missing().length);
+            return all;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.utils.ApiConstants;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aggregations over the upstream roster that read it as a stream instead of loading it, so that they hold one employee
+ * at a time plus their own result: an int for the highest salary, {@code k} employees for a top-k, and at most
+ * {@code maxMatches} employees for a name search, which fails rather than grow past that ceiling. Searches answered
+ * from the roster snapshot are held to the same ceiling through {@link #checkMatches(List, String)}.
+ *
+ * <p>Callers that ask for the same aggregate while it is being computed wait for that stream's result instead of
+ * opening their own. At most {@code maxConcurrent} streams are open at once. Further callers wait up to {@code acquireTimeout} for one
+ * to finish and are then turned away with 503, so that a burst of aggregate requests queues here rather than opening
+ * as many upstream reads.
+ */
+@Component
+@Slf4j
+public class RosterStream {
+
+    private final RestTemplateService restTemplateService;
+    private final Semaphore streams;
+    private final long acquireTimeoutNanos;
+    private final int maxMatches;
+    // Aggregates being streamed, by what they compute, so that concurrent callers share one upstream read.
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RosterStream(
+            RestTemplateService restTemplateService,
+            @Value("${employee.streaming.max-concurrent:4}") int maxConcurrent,
+            @Value("${employee.streaming.acquire-timeout:2s}") Duration acquireTimeout,
+            @Value("${employee.streaming.max-matches:10000}") int maxMatches) {
+        this.restTemplateService = restTemplateService;
+        this.streams = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.maxMatches = maxMatches;
+    }
+
+    /** Streams the upstream roster through {@code consumer}, in roster order, once a stream is free. */
+    public void forEach(Consumer<Employee> consumer) {
+        acquire();
+        try {
+            restTemplateService.streamAllEmployees(ApiConstants.GET_EMPLOYEE_URL, consumer);
+        } finally {
+            streams.release();
+        }
+    }
+
+    /** The highest salary in the roster, or 0 when no employee has one. */
+    public int maxSalary() {
+        return shared("max-salary", () -> {
+            final int[] max = {0};
+            forEach(employee -> {
+                if (employee.getSalary() != null && employee.getSalary() > max[0]) {
+                    max[0] = employee.getSalary();
+                }
+            });
+            return max[0];
+        });
+    }
+
+    /** The {@code k} best paid employees, highest salary first; equal salaries keep roster order. */
+    public List<Employee> topBySalary(int k) {
+        return shared("top-by-salary:" + k, () -> {
+            // Worst first: lower salary, then later in the roster.
+            final PriorityQueue<Ranked> top = new PriorityQueue<>(k + 1,
+                    Comparator.comparingInt(Ranked::salary).thenComparing(Ranked::position, Comparator.reverseOrder()));
+            final long[] position = {0};
+            forEach(employee -> {
+                if (employee.getSalary() == null || k <= 0) {
+                    return;
+                }
+                final var ranked = new Ranked(employee, employee.getSalary(), position[0]++);
+                if (top.size() < k) {
+                    top.add(ranked);
+                } else if (top.comparator().compare(ranked, top.peek()) > 0) {
+                    top.poll();
+                    top.add(ranked);
+                }
+            });
+            final List<Ranked> best = new ArrayList<>(top);
+            best.sort(top.comparator().reversed());
+            return best.stream().map(Ranked::employee).toList();
+        });
+    }
+
+    /** Employees whose name contains {@code fragment}, ignoring case, in roster order. */
+    public List<Employee> filterByName(String fragment) {
+        return shared("name:" + fragment, () -> {
+            final List<Employee> matches = new ArrayList<>();
+            forEach(employee -> {
+                if (RosterAggregator.containsIgnoreCase(employee.getName(), fragment)) {
+                    if (matches.size() == maxMatches) {
+                        throw tooManyMatches(fragment);
+                    }
+                    matches.add(employee);
+                }
+            });
+            return List.copyOf(matches);
+        });
+    }
+
+    /** {@code matches} of a name search made elsewhere, failing as {@link #filterByName(String)} would on too many. */
+    public List<Employee> checkMatches(List<Employee> matches, String fragment) {
+        if (matches.size() > maxMatches) {
+            throw tooManyMatches(fragment);
+        }
+        return matches;
+    }
+
+    private EmployeeException tooManyMatches(String fragment) {
+        return new EmployeeException(HttpStatus.BAD_REQUEST,
+                "More than " + maxMatches + " employees match " + fragment + ", search for more of the name");
+    }
+
+    // Runs compute unless an aggregate under the same key is already streaming, in which case its result, or its
+    // exception, is returned instead. Results are handed to several callers, so they must not be modified.
+    @SuppressWarnings("unchecked")
+    private <T> T shared(String key, Supplier<T> compute) {
+        final var mine = new CompletableFuture<Object>();
+        final var running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.debug("Joining roster stream already computing {}", key);
+            try {
+                // Only this method puts under key, always with the same type of result.
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            final T result = compute.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (streams.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("No roster stream free within {}ms", TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos));
+        throw new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE, "Too many roster reads in progress, retry later");
+    }
+
+    private record Ranked(Employee employee, int salary, long position) {}
+}
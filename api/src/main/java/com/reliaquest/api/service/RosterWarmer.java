@@ -0,0 +1,138 @@
+package com.reliaquest.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads the roster snapshot and builds its query indexes when the api starts, so that the first requests after a
+ * deploy are answered locally instead of all reaching the upstream at once. The instance reports itself warm, and so
+ * ready for traffic, once the first load succeeds. Failed loads are retried with exponential backoff from
+ * {@code retryDelay} up to {@code maxRetryDelay}.
+ *
+ * <p>Once warm, the snapshot is reloaded every {@code refreshInterval}, spread by a random {@code refreshJitter}
+ * fraction either way so that replicas started together do not refresh together. The interval should stay below the
+ * roster time to live, or requests will find the snapshot expired between refreshes. A failed refresh leaves the
+ * instance warm and is tried again at the next interval.
+ */
+@Service
+@Slf4j
+public class RosterWarmer {
+
+    private final EmployeeService employeeService;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final double refreshJitter;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final DoubleSupplier random;
+
+    private volatile boolean warm;
+    // Only touched by the worker thread.
+    private int failedWarmUps;
+
+    private ScheduledExecutorService worker;
+
+    @Autowired
+    public RosterWarmer(
+            EmployeeService employeeService,
+            EmployeeRosterCache employeeRosterCache,
+            @Value("${employee.warmup.enabled:true}") boolean enabled,
+            @Value("${employee.warmup.refresh-interval:20s}") Duration refreshInterval,
+            @Value("${employee.warmup.refresh-jitter:0.2}") double refreshJitter,
+            @Value("${employee.warmup.retry-delay:1s}") Duration retryDelay,
+            @Value("${employee.warmup.max-retry-delay:30s}") Duration maxRetryDelay) {
+        this(employeeService, employeeRosterCache, enabled, refreshInterval, refreshJitter, retryDelay, maxRetryDelay,
+                // Looked up on each draw: a bound ThreadLocalRandom would be this thread's, used from the worker.
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RosterWarmer(EmployeeService employeeService, EmployeeRosterCache employeeRosterCache, boolean enabled,
+            Duration refreshInterval, double refreshJitter, Duration retryDelay, Duration maxRetryDelay,
+            DoubleSupplier random) {
+        this.employeeService = employeeService;
+        this.employeeRosterCache = employeeRosterCache;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        this.refreshJitter = Math.max(0, Math.min(1, refreshJitter));
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.random = random;
+        // With warm-up disabled there is nothing to wait for.
+        this.warm = !enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.execute(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+    /** Whether the roster snapshot has been loaded at least once, or warm-up is disabled. */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    private void run() {
+        if (load()) {
+            if (!warm) {
+                warm = true;
+                log.info("Roster warmed up after {} failed attempts", failedWarmUps);
+            }
+        } else if (!warm) {
+            failedWarmUps++;
+        }
+        final long delay = warm ? nextRefreshDelayMillis() : retryDelayMillis(failedWarmUps);
+        if (!worker.isShutdown()) {
+            worker.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Reloads the roster snapshot and builds its indexes, returning whether the load succeeded. */
+    boolean load() {
+        try {
+            final long start = System.nanoTime();
+            employeeService.getAllEmployees();
+            employeeRosterCache.fresh().ifPresent(snapshot -> snapshot.index().build());
+            log.debug("Roster loaded in {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Roster {} failed: {}", warm ? "refresh" : "warm-up", e.getMessage());
+            return false;
+        }
+    }
+
+    long nextRefreshDelayMillis() {
+        final double spread = 1 + refreshJitter * (2 * random.getAsDouble() - 1);
+        return Math.round(refreshInterval.toMillis() * spread);
+    }
+
+    long retryDelayMillis(int failures) {
+        final long doubled = retryDelay.toMillis() << Math.min(failures - 1, 20);
+        return Math.min(maxRetryDelay.toMillis(), doubled);
+    }
+}
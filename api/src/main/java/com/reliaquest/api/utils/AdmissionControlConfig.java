@@ -0,0 +1,36 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.service.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final EmployeeRosterCache employeeRosterCache;
+
+    /*
+     * Checked at runtime rather than by a property condition, which Spring AOT would fix at build time.
+     */
+    public AdmissionControlConfig(
+            @Value("${employee.admission.enabled:true}") boolean enabled,
+            AdaptiveConcurrencyLimit concurrencyLimit,
+            EmployeeRosterCache employeeRosterCache) {
+        this.enabled = enabled;
+        this.concurrencyLimit = concurrencyLimit;
+        this.employeeRosterCache = employeeRosterCache;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (enabled) {
+            registry.addInterceptor(new AdmissionControlInterceptor(concurrencyLimit, employeeRosterCache))
+                    .addPathPatterns("/api/v1/employee/**");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.service.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits requests against the {@link AdaptiveConcurrencyLimit} before they reach a controller, so that a slow upstream
+ * turns excess requests away at once instead of letting them queue behind blocked upstream calls. Reads served from
+ * cache ({@link CacheServed}) and writes that are only queued ({@link LocallyQueued}) are always admitted; other reads
+ * are shed with 503 once the limit is reached, and writes with 429 once they hold their share of it. Shed responses
+ * carry {@code Retry-After}.
+ */
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = AdmissionControlInterceptor.class.getName() + ".admitted";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final EmployeeRosterCache employeeRosterCache;
+
+    public AdmissionControlInterceptor(
+            AdaptiveConcurrencyLimit concurrencyLimit, EmployeeRosterCache employeeRosterCache) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.employeeRosterCache = employeeRosterCache;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final boolean write = !HttpMethod.GET.matches(request.getMethod());
+        if (write ? isLocallyQueued(handler) : isCacheServed(handler)) {
+            return true;
+        }
+        if (!concurrencyLimit.tryAcquire(write)) {
+            log.debug(
+                    "Shedding {} {}: {} upstream requests in flight, limit {}",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    concurrencyLimit.getInFlight(),
+                    concurrencyLimit.getLimit());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            throw write
+                    ? new EmployeeException(HttpStatus.TOO_MANY_REQUESTS, "Too many writes in progress, retry later")
+                    : new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE, "Employee service is busy, retry later");
+        }
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            concurrencyLimit.release();
+        }
+    }
+
+    private static boolean isLocallyQueued(Object handler) {
+        return handler instanceof HandlerMethod method && method.hasMethodAnnotation(LocallyQueued.class);
+    }
+
+    private boolean isCacheServed(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return false;
+        }
+        final CacheServed cacheServed = method.getMethodAnnotation(CacheServed.class);
+        return cacheServed != null
+                && (!cacheServed.needsFreshRoster() || employeeRosterCache.fresh().isPresent());
+    }
+}
@@ -5,4 +5,11 @@ public class ApiConstants {
     public static final String GET_EMPLOYEE_URL = "http://localhost:8112/api/v1/employee";
 	public static final String GET_EMPLOYEE_ID_URL = "http://localhost:8112/api/v1/employee/{id}";
 
+    public static final int MAX_BATCH_IDS = 500;
+
+    public static final int DEFAULT_QUERY_LIMIT = 100;
+    public static final int MAX_QUERY_LIMIT = 1000;
+
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
 }
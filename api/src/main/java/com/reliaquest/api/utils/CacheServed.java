@@ -0,0 +1,20 @@
+package com.reliaquest.api.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read that is answered from the api's own state without an upstream request: always, or, when
+ * {@link #needsFreshRoster()} is set, while the roster snapshot is fresh. {@link AdmissionControlInterceptor} lets such
+ * reads through without counting them against the upstream concurrency limit.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheServed {
+
+    boolean needsFreshRoster() default true;
+}
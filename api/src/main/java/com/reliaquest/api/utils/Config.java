@@ -1,17 +1,85 @@
 package com.reliaquest.api.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.AdaptiveConcurrencyLimit;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class Config {
 	
+	// Connections for upstream calls outside admission control, such as roster warm-up and queued creates.
+	private static final int BACKGROUND_CONNECTIONS = 8;
+
+	/*
+	 * Apache HttpClient advertises Accept-Encoding: gzip, x-gzip, deflate and transparently decodes the
+	 * compressed upstream response, which the JDK HttpURLConnection default does not. Every upstream
+	 * request is timed for the admission control concurrency limit.
+	 *
+	 * The pool holds a connection for every request admission control can let through plus every hedge, so
+	 * that those wait on the upstream rather than on the pool, and every wait is bounded: for a pooled
+	 * connection, for the connection to open, and between response packets. A timeout fails the call like
+	 * any other connection failure.
+	 */
 	@Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            AdaptiveConcurrencyLimit concurrencyLimit,
+            @Value("${employee.upstream.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.response-timeout:10s}") Duration responseTimeout,
+            @Value("${employee.upstream.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${employee.admission.max-limit:200}") int maxAdmitted,
+            @Value("${employee.hedging.max-threads:64}") int maxHedges) {
+        final int maxConnections = maxAdmitted + maxHedges + BACKGROUND_CONNECTIONS;
+        final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeout.toMillis()))
+                        .build())
+                .build();
+        final CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeout.toMillis()))
+                        .build())
+                .build();
+        return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new UpstreamLatencyInterceptor(concurrencyLimit))
+                .build();
+    }
+
+    /*
+     * Picked up by both Spring MVC and the RestTemplateBuilder, so the upstream client can decode
+     * Smile responses and our own endpoints can serve Smile to clients that ask for it.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter();
+    }
+
+    /*
+     * Registered ahead of the Jackson converters, so employees served from the roster cache are written
+     * as the JSON bytes encoded when the roster was loaded.
+     */
+    @Bean
+    public EncodedEmployeeHttpMessageConverter encodedEmployeeHttpMessageConverter() {
+        return new EncodedEmployeeHttpMessageConverter();
     }
 
     @Bean
@@ -3,15 +3,14 @@ package com.reliaquest.api.utils;
 import com.reliaquest.api.exception.EmployeeException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 @RestControllerAdvice
 public class CustomizeResponseEntityExceptionHandler {
 
     @ExceptionHandler(EmployeeException.class)
-    public ResponseEntity<String> handleEmployeeNotFound(EmployeeException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<String> handleEmployeeException(EmployeeException ex) {
+        return new ResponseEntity<>(ex.getMessage(), ex.getStatusCode());
     }
 
 }
@@ -0,0 +1,46 @@
+package com.reliaquest.api.utils;
+
+import java.util.Locale;
+
+/**
+ * Checks employee ids, which the upstream issues as UUIDs in their canonical {@code 8-4-4-4-12} hex form, before
+ * they reach the upstream or the caches, so that a malformed id is rejected without a round trip. Both checks read
+ * the string in place and allocate nothing for a well-formed, lower-case id.
+ */
+public final class EmployeeIds {
+
+    private static final int LENGTH = 36;
+
+    private EmployeeIds() {}
+
+    public static boolean isValid(CharSequence id) {
+        if (id == null || id.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            final char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23 ? c != '-' : !isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A valid id as the upstream writes it, which is how the caches key employees: {@code id} itself unless it has
+     * upper-case hex digits.
+     */
+    public static String canonical(String id) {
+        for (int i = 0; i < id.length(); i++) {
+            final char c = id.charAt(i);
+            if (c >= 'A' && c <= 'F') {
+                return id.toLowerCase(Locale.ROOT);
+            }
+        }
+        return id;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
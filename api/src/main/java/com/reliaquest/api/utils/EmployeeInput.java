@@ -0,0 +1,17 @@
+package com.reliaquest.api.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler parameter that receives an employee create request. The body is read straight into a
+ * {@link com.reliaquest.api.model.CreateEmployeeDto} by {@link EmployeeInputArgumentResolver}, whatever the declared
+ * parameter type.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EmployeeInput {}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.CreateEmployeeDto;
+import java.util.List;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+/**
+ * Reads an {@link EmployeeInput} body with the regular message converters, but into {@link CreateEmployeeDto} rather
+ * than the declared {@code Object}, which Jackson would otherwise build as a map for the service to convert again.
+ * Has to run before Spring's own {@code @RequestBody} handling, see {@link EmployeeInputConfig}.
+ */
+public class EmployeeInputArgumentResolver extends RequestResponseBodyMethodProcessor {
+
+    public EmployeeInputArgumentResolver(List<HttpMessageConverter<?>> converters) {
+        super(converters);
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(EmployeeInput.class);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return false;
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory)
+            throws Exception {
+        final Object employee;
+        try {
+            employee = readWithMessageConverters(webRequest, parameter, CreateEmployeeDto.class);
+        } catch (HttpMessageNotReadableException e) {
+            throw new EmployeeException(
+                    HttpStatus.BAD_REQUEST, "Invalid Employee Input: " + e.getMostSpecificCause().getMessage());
+        }
+        if (employee == null) {
+            throw new EmployeeException(HttpStatus.BAD_REQUEST, "Invalid Employee Input: request body is missing");
+        }
+        return employee;
+    }
+}
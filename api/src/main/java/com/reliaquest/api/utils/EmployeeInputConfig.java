@@ -0,0 +1,34 @@
+package com.reliaquest.api.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@Configuration
+public class EmployeeInputConfig {
+
+    /*
+     * Resolvers added through WebMvcConfigurer run after the built-in ones, and IEmployeeController's
+     * @RequestBody would hand the parameter to Spring's body processor first, so this one goes to the front
+     * once the adapter has built its own list. Static, as post-processors are created before other beans.
+     */
+    @Bean
+    public static BeanPostProcessor employeeInputResolverRegistrar() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter handlerAdapter) {
+                    List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+                    resolvers.add(new EmployeeInputArgumentResolver(handlerAdapter.getMessageConverters()));
+                    resolvers.addAll(handlerAdapter.getArgumentResolvers());
+                    handlerAdapter.setArgumentResolvers(resolvers);
+                }
+                return bean;
+            }
+        };
+    }
+}
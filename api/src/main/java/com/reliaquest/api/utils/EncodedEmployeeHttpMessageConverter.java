@@ -0,0 +1,52 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.model.EncodedEmployee;
+import com.reliaquest.api.model.EncodedEmployeeList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes cached employees and rosters as the JSON bytes encoded when they entered the cache, so serving them does no
+ * Jackson work. It only writes JSON; other formats such as Smile fall through to the regular converters.
+ */
+public class EncodedEmployeeHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public EncodedEmployeeHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EncodedEmployee.class.isAssignableFrom(clazz) || EncodedEmployeeList.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("Pre-encoded employees are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        return (long) json(body).length;
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(json(body));
+    }
+
+    private static byte[] json(Object body) {
+        return body instanceof EncodedEmployee employee ? employee.json() : ((EncodedEmployeeList) body).json();
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram in microseconds, with log-linear buckets in the manner of HdrHistogram: values below 128
+ * each have their own bucket, and every doubling above that is split into 64 buckets, so a recorded value is known to
+ * within 1/64 of itself. Recording is one atomic increment; values above about 38 hours are clamped into the last
+ * bucket.
+ *
+ * <p>A {@link Snapshot} copies the counts; subtracting an earlier snapshot from a later one gives the histogram of the
+ * interval between them, so each reader keeps its own intervals without resetting anyone else's.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int MAX_SHIFT = 30;
+    private static final int BUCKETS = LINEAR_BUCKETS + MAX_SHIFT * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long micros) {
+        counts.incrementAndGet(bucketOf(Math.max(0, micros)));
+    }
+
+    public Snapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        if (shift > MAX_SHIFT) {
+            return BUCKETS - 1;
+        }
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (micros >>> shift) - SUB_BUCKETS;
+    }
+
+    // Largest value that falls in the bucket, so that percentiles never understate latency.
+    static long highestValueIn(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        final int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        final long mantissa = SUB_BUCKETS + (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /** Counts of one histogram at one moment, or of the interval between two moments. */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long sum = 0;
+            for (long count : counts) {
+                sum += count;
+            }
+            this.total = sum;
+        }
+
+        /** What was recorded after {@code earlier} was taken. */
+        public Snapshot minus(Snapshot earlier) {
+            final long[] interval = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                interval[i] = counts[i] - earlier.counts[i];
+            }
+            return new Snapshot(interval);
+        }
+
+        public long count() {
+            return total;
+        }
+
+        /** The value at or below which {@code percentile} percent of recorded values fall, or 0 when empty. */
+        public long percentile(double percentile) {
+            if (total == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValueIn(i);
+                }
+            }
+            return highestValueIn(BUCKETS - 1);
+        }
+
+        public long max() {
+            for (int i = BUCKETS - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return highestValueIn(i);
+                }
+            }
+            return 0;
+        }
+
+        /** Mean of the bucket midpoints, which is within the bucket precision of the true mean. */
+        public double mean() {
+            if (total == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (counts[i] > 0) {
+                    final long high = highestValueIn(i);
+                    final long low = i == 0 ? 0 : highestValueIn(i - 1) + 1;
+                    sum += counts[i] * (low + high) / 2.0;
+                }
+            }
+            return sum / total;
+        }
+    }
+}
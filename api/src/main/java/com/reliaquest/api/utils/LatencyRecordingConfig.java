@@ -0,0 +1,34 @@
+package com.reliaquest.api.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class LatencyRecordingConfig implements WebMvcConfigurer {
+
+    private final boolean enabled;
+    private final LatencyRecordingInterceptor latencyRecordingInterceptor;
+
+    /*
+     * Checked at runtime rather than by a property condition, which Spring AOT would fix at build time. The
+     * interceptor runs first, so that requests shed by admission control are timed too.
+     */
+    public LatencyRecordingConfig(
+            @Value("${employee.latency.enabled:true}") boolean enabled,
+            LatencyRecordingInterceptor latencyRecordingInterceptor) {
+        this.enabled = enabled;
+        this.latencyRecordingInterceptor = latencyRecordingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (enabled) {
+            registry.addInterceptor(latencyRecordingInterceptor)
+                    .addPathPatterns("/api/v1/employee/**")
+                    .order(Ordered.HIGHEST_PRECEDENCE);
+        }
+    }
+}
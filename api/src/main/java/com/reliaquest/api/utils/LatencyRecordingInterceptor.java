@@ -0,0 +1,84 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.service.LatencyRecorder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Times each employee request into {@link LatencyRecorder}, under its method and route pattern, so that
+ * {@code GET /api/v1/employee/search/{searchString}} is one endpoint however many names are searched. The request
+ * starts in {@link #preHandle}; response serialization starts when the body is handed to a message converter, which
+ * this class sees as a {@link ResponseBodyAdvice}; and the request ends in {@link #afterCompletion}, once the body is
+ * written. Error responses are timed like any other.
+ */
+@ControllerAdvice
+public class LatencyRecordingInterceptor implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private final LatencyRecorder latencyRecorder;
+
+    public LatencyRecordingInterceptor(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        final RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return;
+        }
+        RequestTimings.clear();
+        final long end = System.nanoTime();
+        final long serializationStart = timings.serializationStartNanos(end);
+        final long handled = serializationStart - timings.startNanos();
+        final long upstream = Math.min(timings.upstreamNanos(), handled);
+        latencyRecorder.record(
+                endpointOf(request),
+                micros(end - timings.startNanos()),
+                micros(upstream),
+                micros(handled - upstream),
+                micros(end - serializationStart));
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestTimings.markSerialization();
+        return body;
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
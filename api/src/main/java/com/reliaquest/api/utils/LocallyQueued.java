@@ -0,0 +1,17 @@
+package com.reliaquest.api.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a write that only enqueues work for a background worker, which paces its own upstream requests, and so makes
+ * none of its own. {@link AdmissionControlInterceptor} admits such writes without taking a share of the upstream
+ * concurrency limit, so that they are accepted however busy the upstream is.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LocallyQueued {}
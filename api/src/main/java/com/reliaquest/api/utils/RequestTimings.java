@@ -0,0 +1,75 @@
+package com.reliaquest.api.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Phase timings of the request being handled on the current thread. {@link LatencyRecordingInterceptor} starts and
+ * finishes them; upstream calls made on the thread add their wall-clock time with {@link #upstream(Supplier)}, and the
+ * start of response serialization is marked with {@link #markSerialization()}. Calls outside a request, such as
+ * background refreshes, are not timed.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private long upstreamNanos;
+    private long serializationStartNanos;
+    // Upstream calls nested in another are already inside its time.
+    private int upstreamDepth;
+
+    private RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    static RequestTimings begin() {
+        final var timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /** Runs {@code call}, counting its time as upstream time of the current request, if any. */
+    public static <T> T upstream(Supplier<T> call) {
+        final RequestTimings timings = CURRENT.get();
+        if (timings == null || timings.upstreamDepth > 0) {
+            return call.get();
+        }
+        timings.upstreamDepth++;
+        final long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            timings.upstreamNanos += System.nanoTime() - start;
+            timings.upstreamDepth--;
+        }
+    }
+
+    /** Marks the handler as done and its response body about to be written. */
+    static void markSerialization() {
+        final RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.serializationStartNanos == 0) {
+            timings.serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long upstreamNanos() {
+        return upstreamNanos;
+    }
+
+    /** When serialization started, or {@code endNanos} when no body was written. */
+    long serializationStartNanos(long endNanos) {
+        return serializationStartNanos == 0 ? endNanos : serializationStartNanos;
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.service.AdaptiveConcurrencyLimit;
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Times every upstream request for the {@link AdaptiveConcurrencyLimit}. Requests that fail to connect or complete,
+ * and upstream 429 and 503 responses, count as dropped; other responses count by their time to the response headers.
+ */
+public class UpstreamLatencyInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    public UpstreamLatencyInterceptor(AdaptiveConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        final long start = System.nanoTime();
+        final ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            concurrencyLimit.onSample(System.nanoTime() - start, true);
+            throw e;
+        }
+        final int status = response.getStatusCode().value();
+        concurrencyLimit.onSample(
+                System.nanoTime() - start,
+                status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.SERVICE_UNAVAILABLE.value());
+        return response;
+    }
+}
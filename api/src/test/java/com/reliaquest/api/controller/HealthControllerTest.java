@@ -0,0 +1,68 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterWarmer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+public class HealthControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private RosterWarmer rosterWarmer;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    void readyOnceRosterIsWarm() throws Exception {
+        when(rosterWarmer.isWarm()).thenReturn(true);
+
+        mockMvc.perform(get("/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+        mockMvc.perform(get("/health/liveness")).andExpect(status().isOk());
+    }
+
+    @Test
+    void notReadyWhileCold() throws Exception {
+        when(rosterWarmer.isWarm()).thenReturn(false);
+
+        mockMvc.perform(get("/health/readiness"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"))
+                .andExpect(jsonPath("$.details.rosterWarm").value(false));
+    }
+
+    @Test
+    void notReadyWhileRefusingTraffic() throws Exception {
+        when(rosterWarmer.isWarm()).thenReturn(true);
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        mockMvc.perform(get("/health/readiness")).andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(80).toNanos();
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 2.0, 0.5);
+
+    @Test
+    void growsWhileBusyAndLatencyIsSteady() {
+        acquire(15, false);
+        samples(100, FAST);
+
+        assertTrue(limit.getLimit() > 20, "limit " + limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhileIdle() {
+        samples(100, FAST);
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void shrinksWhenUpstreamSlowsDown() {
+        acquire(15, false);
+        samples(100, FAST);
+        int before = limit.getLimit();
+
+        samples(50, SLOW);
+
+        assertTrue(limit.getLimit() < before / 2, before + " -> " + limit.getLimit());
+    }
+
+    @Test
+    void dropsBackOffToMinimum() {
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, true);
+        }
+
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void writesTakeOnlyTheirShare() {
+        assertEquals(10, acquire(20, true));
+        assertEquals(10, acquire(20, false));
+
+        limit.release();
+        assertFalse(limit.tryAcquire(true));
+        assertTrue(limit.tryAcquire(false));
+    }
+
+    private int acquire(int count, boolean write) {
+        int acquired = 0;
+        for (int i = 0; i < count; i++) {
+            if (limit.tryAcquire(write)) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+
+    private void samples(int count, long rttNanos) {
+        for (int i = 0; i < count; i++) {
+            limit.onSample(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Weighs the CPU spent compressing and decompressing a full roster against the bytes saved on the wire, for both
+ * wire formats. Run with {@code ./gradlew :api:benchmark}.
+ */
+@Tag("benchmark")
+public class CompressionBenchmarkTest {
+
+    private static final int ROSTER_SIZE = 50_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    @Test
+    void compareCompressionCostAgainstBytesSaved() throws Exception {
+        Map<String, Object> roster = Map.of(
+                "data", WireFormatBenchmarkTest.upstreamRoster(ROSTER_SIZE), "status", "Successfully processed request.");
+
+        System.out.printf("roster of %,d employees%n", ROSTER_SIZE);
+        report("json ", new ObjectMapper().writeValueAsBytes(roster));
+        report("smile", WireFormatBenchmarkTest.upstreamSmileMapper().writeValueAsBytes(roster));
+    }
+
+    private static void report(String format, byte[] raw) throws IOException {
+        for (Codec codec : Codec.values()) {
+            byte[] compressed = codec.compress(raw);
+            double compressMillis = averageMillis(() -> codec.compress(raw));
+            double decompressMillis = averageMillis(() -> assertEquals(raw.length, codec.decompress(compressed).length));
+            System.out.printf("  %s %-7s: %,12d -> %,11d bytes (%5.1f%%)  compress %7.2f ms  decompress %7.2f ms%n",
+                    format, codec.name().toLowerCase(), raw.length, compressed.length,
+                    100.0 * compressed.length / raw.length, compressMillis, decompressMillis);
+            assertTrue(compressed.length < raw.length);
+        }
+    }
+
+    private static double averageMillis(IoRunnable task) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private interface IoRunnable {
+        void run() throws IOException;
+    }
+
+    private enum Codec {
+        GZIP {
+            @Override
+            OutputStream wrap(OutputStream out) throws IOException {
+                return new GZIPOutputStream(out);
+            }
+
+            @Override
+            InputStream wrap(InputStream in) throws IOException {
+                return new GZIPInputStream(in);
+            }
+        },
+        DEFLATE {
+            @Override
+            OutputStream wrap(OutputStream out) {
+                return new DeflaterOutputStream(out);
+            }
+
+            @Override
+            InputStream wrap(InputStream in) {
+                return new InflaterInputStream(in);
+            }
+        };
+
+        abstract OutputStream wrap(OutputStream out) throws IOException;
+
+        abstract InputStream wrap(InputStream in) throws IOException;
+
+        byte[] compress(byte[] raw) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+            try (OutputStream compressing = wrap(out)) {
+                compressing.write(raw);
+            }
+            return out.toByteArray();
+        }
+
+        byte[] decompress(byte[] compressed) throws IOException {
+            try (InputStream in = wrap(new ByteArrayInputStream(compressed))) {
+                return in.readAllBytes();
+            }
+        }
+    }
+}
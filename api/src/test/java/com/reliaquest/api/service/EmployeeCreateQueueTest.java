@@ -0,0 +1,178 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.CreateEmployeeDto;
+import com.reliaquest.api.model.CreateEmployeeJob;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import org.apache.hc.client5.http.HttpHostConnectException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeCreateQueueTest {
+
+    @Mock
+    private RestTemplateService restTemplateService;
+
+    private final EmployeeRosterCache rosterCache = new EmployeeRosterCache(new ObjectMapper(), Duration.ofSeconds(30), 10);
+
+    private EmployeeCreateQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new EmployeeCreateQueue(restTemplateService, rosterCache, 3, 2, Duration.ofSeconds(10), 100, 3);
+    }
+
+    @Test
+    void testDrainBatch_SendsAtMostBatchSize() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenReturn(created("John Doe"));
+
+        CreateEmployeeJob first = queue.submit(dto("John Doe"));
+        queue.submit(dto("John Doe"));
+        CreateEmployeeJob third = queue.submit(dto("John Doe"));
+
+        queue.drainBatch();
+
+        verify(restTemplateService, times(2)).createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class));
+        assertEquals(CreateEmployeeJob.Status.COMPLETED, queue.find(first.getJobId()).orElseThrow().getStatus());
+        assertEquals("John Doe", queue.find(first.getJobId()).orElseThrow().getEmployee().getName());
+        assertEquals(CreateEmployeeJob.Status.QUEUED, queue.find(third.getJobId()).orElseThrow().getStatus());
+        assertEquals(1, queue.queuedCount());
+    }
+
+    @Test
+    void testDrainBatch_Created_DropsCachedRoster() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenReturn(created("John Doe"));
+        rosterCache.refresh(List::of);
+
+        queue.submit(dto("John Doe"));
+        queue.drainBatch();
+
+        assertTrue(rosterCache.fresh().isEmpty());
+    }
+
+    @Test
+    void testDrainBatch_RateLimited_RequeuesAndStops() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null));
+
+        CreateEmployeeJob job = queue.submit(dto("John Doe"));
+        queue.submit(dto("Jane Austin"));
+
+        queue.drainBatch();
+
+        verify(restTemplateService, times(1)).createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class));
+        assertEquals(CreateEmployeeJob.Status.QUEUED, queue.find(job.getJobId()).orElseThrow().getStatus());
+        assertEquals(2, queue.queuedCount());
+    }
+
+    @Test
+    void testDrainBatch_RateLimitedUntilMaxAttempts_MarksFailedAndMovesOn() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null))
+                .thenReturn(created("Jane Austin"));
+
+        CreateEmployeeJob stuck = queue.submit(dto("John Doe"));
+        CreateEmployeeJob behind = queue.submit(dto("Jane Austin"));
+
+        queue.drainBatch();
+        queue.drainBatch();
+        assertEquals(CreateEmployeeJob.Status.QUEUED, queue.find(stuck.getJobId()).orElseThrow().getStatus());
+        queue.drainBatch();
+
+        CreateEmployeeJob failed = queue.find(stuck.getJobId()).orElseThrow();
+        assertEquals(CreateEmployeeJob.Status.FAILED, failed.getStatus());
+        assertTrue(failed.getError().contains("3 attempts"));
+        assertEquals(1, queue.queuedCount());
+
+        queue.drainBatch();
+        assertEquals(CreateEmployeeJob.Status.COMPLETED, queue.find(behind.getJobId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testDrainBatch_ConnectFailure_Requeues() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenThrow(new ResourceAccessException("refused", new HttpHostConnectException("Connection refused")))
+                .thenThrow(new ResourceAccessException("no connection", new ConnectionRequestTimeoutException("lease")))
+                .thenReturn(created("John Doe"));
+
+        CreateEmployeeJob job = queue.submit(dto("John Doe"));
+        queue.drainBatch();
+        queue.drainBatch();
+        assertEquals(CreateEmployeeJob.Status.QUEUED, queue.find(job.getJobId()).orElseThrow().getStatus());
+        queue.drainBatch();
+
+        assertEquals(CreateEmployeeJob.Status.COMPLETED, queue.find(job.getJobId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testDrainBatch_ResponseTimeout_MarksUnknownWithoutResending() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenThrow(new ResourceAccessException("timeout", new SocketTimeoutException("Read timed out")));
+
+        CreateEmployeeJob job = queue.submit(dto("John Doe"));
+        queue.drainBatch();
+        queue.drainBatch();
+
+        CreateEmployeeJob result = queue.find(job.getJobId()).orElseThrow();
+        assertEquals(CreateEmployeeJob.Status.UNKNOWN, result.getStatus());
+        assertTrue(result.getError().contains("may have been created"));
+        assertEquals(0, queue.queuedCount());
+        verify(restTemplateService, times(1)).createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    void testDrainBatch_UpstreamRejects_MarksFailed() {
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+        CreateEmployeeJob job = queue.submit(dto("John Doe"));
+        queue.drainBatch();
+
+        CreateEmployeeJob result = queue.find(job.getJobId()).orElseThrow();
+        assertEquals(CreateEmployeeJob.Status.FAILED, result.getStatus());
+        assertNotNull(result.getError());
+        assertEquals(0, queue.queuedCount());
+    }
+
+    @Test
+    void testSubmit_QueueFull_ThrowsException() {
+        queue.submit(dto("John Doe"));
+        queue.submit(dto("John Doe"));
+        queue.submit(dto("John Doe"));
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> queue.submit(dto("John Doe")));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+        assertEquals(3, queue.queuedCount());
+    }
+
+    private static CreateEmployeeDto dto(String name) {
+        return CreateEmployeeDto.builder().name(name).salary(1000).age(32).title("Manager").build();
+    }
+
+    private static ResponseEntity<EmployeeResponse> created(String name) {
+        return new ResponseEntity<>(
+                EmployeeResponse.builder().data(Employee.builder().id("1").name(name).build()).build(),
+                HttpStatus.OK);
+    }
+}
@@ -0,0 +1,252 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class EmployeeRosterCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final EmployeeRosterCache cache = new EmployeeRosterCache(new ObjectMapper(), Duration.ofSeconds(30), 2, now::get);
+
+    @Test
+    void snapshotExpiresAfterTtl() {
+        cache.refresh(() -> List.of(employee("1")));
+        assertEquals("1", cache.fresh().orElseThrow().byId().get("1").getId());
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(cache.fresh().isEmpty());
+    }
+
+    @Test
+    void hotIdsKeepOnlyMostRecentlyUsed() {
+        cache.remember(employee("1"));
+        cache.remember(employee("2"));
+        assertTrue(cache.hot("1").isPresent());
+        cache.remember(employee("3"));
+
+        assertEquals(2, cache.hotIdCount());
+        assertTrue(cache.hot("1").isPresent());
+        assertTrue(cache.hot("2").isEmpty());
+        assertTrue(cache.hot("3").isPresent());
+    }
+
+    @Test
+    void invalidateDropsHotIdAndSnapshot() {
+        cache.refresh(() -> List.of(employee("1")));
+        cache.remember(employee("1"));
+        cache.remember(employee("2"));
+
+        cache.invalidate("1");
+
+        assertTrue(cache.hot("1").isEmpty());
+        assertTrue(cache.hot("2").isPresent());
+        assertTrue(cache.fresh().isEmpty());
+    }
+
+    @Test
+    void concurrentRefreshesShareOneLoad() throws Exception {
+        final var loads = new AtomicInteger();
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<EmployeeRosterCache.Snapshot> first = executor.submit(() -> cache.refresh(() -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return List.of(employee("1"));
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            final List<Future<EmployeeRosterCache.Snapshot>> joined = List.of(
+                    executor.submit(() -> cache.refresh(() -> List.of(employee("unexpected")))),
+                    executor.submit(() -> cache.refresh(() -> List.of(employee("unexpected")))));
+            // Give the joiners time to find the running load before it finishes.
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(1, first.get(5, TimeUnit.SECONDS).employees().size());
+            for (final var future : joined) {
+                assertSame(first.get(), future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadOvertakenByInvalidateIsNotKept() throws Exception {
+        final var loads = new AtomicInteger();
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            final Future<EmployeeRosterCache.Snapshot> before = executor.submit(() -> cache.refresh(() -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return List.of(employee("1"), employee("2"));
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            cache.invalidate("2");
+            // Arrives after the write, so it must not be handed the load that started before it.
+            final var after = cache.refresh(() -> {
+                loads.incrementAndGet();
+                return List.of(employee("1"));
+            });
+            release.countDown();
+
+            assertEquals(2, before.get(5, TimeUnit.SECONDS).employees().size());
+            assertEquals(2, loads.get());
+            assertSame(after, cache.fresh().orElseThrow());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadFinishingAfterInvalidateLeavesNoSnapshot() throws Exception {
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            final Future<EmployeeRosterCache.Snapshot> before = executor.submit(() -> cache.refresh(() -> {
+                loading.countDown();
+                await(release);
+                return List.of(employee("1"), employee("2"));
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            cache.invalidate("2");
+            release.countDown();
+
+            assertEquals(2, before.get(5, TimeUnit.SECONDS).employees().size());
+            assertTrue(cache.fresh().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadInFlightWaitsForRunningRefreshOnly() throws Exception {
+        assertTrue(cache.loadInFlight().isEmpty());
+
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<EmployeeRosterCache.Snapshot> first = executor.submit(() -> cache.refresh(() -> {
+                loading.countDown();
+                await(release);
+                return List.of(employee("1"));
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            final Future<Optional<EmployeeRosterCache.Snapshot>> waiting = executor.submit(cache::loadInFlight);
+            // Give the waiter time to find the running load before it finishes.
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), waiting.get(5, TimeUnit.SECONDS).orElseThrow());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.loadInFlight().isEmpty());
+    }
+
+    @Test
+    void encodingMatchesObjectMapperAndSurvivesUnchangedReload() throws Exception {
+        final var first = cache.refresh(() -> List.of(employee("1"), employee("2")));
+        assertArrayEquals(
+                new ObjectMapper().writeValueAsBytes(List.of(employee("1"), employee("2"))), first.employees().json());
+
+        final var unchanged = cache.refresh(() -> List.of(employee("1"), employee("2")));
+        assertSame(first.employees(), unchanged.employees());
+
+        final var changed = cache.refresh(() -> List.of(employee("1"), employee("3")));
+        assertNotSame(first.employees(), changed.employees());
+        assertSame(first.byId().get("1"), changed.byId().get("1"));
+    }
+
+    @Test
+    void rememberReusesEncodingOfUnchangedEmployee() {
+        final var snapshot = cache.refresh(() -> List.of(employee("1")));
+
+        assertSame(snapshot.byId().get("1"), cache.remember(employee("1")));
+        assertNotSame(snapshot.byId().get("1"), cache.remember(Employee.builder().id("1").name("Renamed").build()));
+    }
+
+    @Test
+    void cachedEmployeesRejectChanges() {
+        final var cached = cache.refresh(() -> List.of(employee("1"))).byId().get("1");
+
+        assertThrows(UnsupportedOperationException.class, () -> cached.setName("Renamed"));
+        assertThrows(UnsupportedOperationException.class, () -> cached.setSalary(1));
+        assertEquals("Employee 1", cached.getName());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        assertThrows(EmployeeException.class, () -> cache.refresh(() -> {
+            throw new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE, "down");
+        }));
+        assertTrue(cache.fresh().isEmpty());
+        assertEquals(1, cache.refresh(() -> List.of(employee("1"))).employees().size());
+    }
+
+    @Test
+    void loaderErrorReachesCallersWaitingOnTheLoad() throws Exception {
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<EmployeeRosterCache.Snapshot> first = executor.submit(() -> cache.refresh(() -> {
+                loading.countDown();
+                await(release);
+                throw new StackOverflowError();
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            final Future<EmployeeRosterCache.Snapshot> joined =
+                    executor.submit(() -> cache.refresh(() -> List.of(employee("unexpected"))));
+            // Give the joiner time to find the running load before it fails.
+            Thread.sleep(100);
+            release.countDown();
+
+            final var failed = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, failed.getCause());
+            final var waited = assertThrows(ExecutionException.class, () -> joined.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, waited.getCause());
+            assertTrue(cache.fresh().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Employee employee(String id) {
+        return Employee.builder().id(id).name("Employee " + id).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,7 +9,6 @@ import com.reliaquest.api.utils.ApiConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,19 +16,33 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @ExtendWith(MockitoExtension.class)
 public class EmployeeServiceTest {
+
+    private static final String ID_1 = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1501";
+    private static final String ID_2 = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1502";
+    private static final String ID_3 = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1503";
+    private static final String ID_9 = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1509";
+
     @Mock
     private RestTemplateService restTemplateService;
 
     @Mock
     private ObjectMapper objectMapper;
 
-    @InjectMocks
+    @Mock
+    private EmployeeCreateQueue employeeCreateQueue;
+
+    private EmployeeRosterCache employeeRosterCache;
+
     private EmployeeService employeeService;
 
     private Employee employee;
@@ -40,15 +53,19 @@ public class EmployeeServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        employeeService = new EmployeeService(objectMapper, restTemplateService);
+        employeeRosterCache = new EmployeeRosterCache(new ObjectMapper(), Duration.ofSeconds(30), 100);
+        employeeService = new EmployeeService(
+                objectMapper, restTemplateService, employeeCreateQueue, employeeRosterCache,
+                new RosterAggregator(1, Integer.MAX_VALUE),
+                new RosterStream(restTemplateService, 4, Duration.ofSeconds(1), 10_000));
         employeeResponse.builder().data(employee).build();
     }
 
     @Test
     void testGetAllEmployees_Success() {
         // Mock Employee Object
-        Employee employee1 = Employee.builder().name("John Doe").id("1").salary(1000).title("Manager").email("john@company.com").build();
-        Employee employee2 = Employee.builder().name("Jane Austin").id("2").salary(2000).title("Developer").email("jane@company.com").build();
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).title("Manager").email("john@company.com").build();
+        Employee employee2 = Employee.builder().name("Jane Austin").id(ID_2).salary(2000).title("Developer").email("jane@company.com").build();
         // Mock EmployeeList Object
         EmployeeList employeeList = EmployeeList.builder().data(Arrays.asList(employee1, employee2)) // Using Collections.singletonList
                 .build();
@@ -78,7 +95,7 @@ public class EmployeeServiceTest {
 
     @Test
     void testGetEmployeeById_Success() {
-        EmployeeResponse employeeResponse = EmployeeResponse.builder().data(Employee.builder().id("1").name("John Doe").salary(1000)
+        EmployeeResponse employeeResponse = EmployeeResponse.builder().data(Employee.builder().id(ID_1).name("John Doe").salary(1000)
                         .title("Manager").email("john@company.com").build()).build();
 
         // Mock API Call
@@ -87,12 +104,12 @@ public class EmployeeServiceTest {
                 .thenReturn(new ResponseEntity<>(employeeResponse, HttpStatus.OK));
 
         // Call Service Method
-        Employee result = employeeService.getEmployeeById("1");
+        Employee result = employeeService.getEmployeeById(ID_1);
 
         // Assertions
         assertNotNull(result);
         assertEquals("John Doe", result.getName());
-        assertEquals("1", result.getId());
+        assertEquals(ID_1, result.getId());
     }
 
     @Test
@@ -101,7 +118,7 @@ public class EmployeeServiceTest {
                 .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
 
         // Assert that EmployeeException is thrown
-        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getEmployeeById("1"));
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getEmployeeById(ID_1));
 
         // Validate Exception Details
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
@@ -112,7 +129,7 @@ public class EmployeeServiceTest {
 
         CreateEmployeeDto createEmployeeDto = CreateEmployeeDto.builder().name("John Doe").salary(1000).age(32).title("Manager").build();
         // Initialize Employee Response
-        EmployeeResponse employeeResponse = EmployeeResponse.builder().data(Employee.builder().id("1").name("John Doe").salary(1000)
+        EmployeeResponse employeeResponse = EmployeeResponse.builder().data(Employee.builder().id(ID_1).name("John Doe").salary(1000)
                         .title("Manager").email("john@company.com").build()).build();
 
         // Mock objectMapper conversion
@@ -130,6 +147,28 @@ public class EmployeeServiceTest {
         assertEquals("John Doe", result.getName());
     }
 
+    @Test
+    void testCreateEmployee_TypedInput_SkipsConversion() {
+        CreateEmployeeDto createEmployeeDto = CreateEmployeeDto.builder().name("John Doe").salary(1000).age(32).title("Manager").build();
+        EmployeeResponse employeeResponse = EmployeeResponse.builder().data(Employee.builder().id(ID_1).name("John Doe").build()).build();
+        when(restTemplateService.createEmployee(anyString(), any(), any(), eq(EmployeeResponse.class)))
+                .thenReturn(new ResponseEntity<>(employeeResponse, HttpStatus.OK));
+
+        Employee result = employeeService.createEmployee(createEmployeeDto);
+
+        assertEquals("John Doe", result.getName());
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    void testCreateEmployee_InvalidTypedInput_ThrowsException() {
+        CreateEmployeeDto createEmployeeDto = CreateEmployeeDto.builder().name(" ").salary(1000).age(12).title("Manager").build();
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.createEmployee(createEmployeeDto));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(restTemplateService);
+    }
+
     @Test
     void testCreateEmployee_InvalidInput_ThrowsException() {
         when(objectMapper.convertValue(any(), eq(CreateEmployeeDto.class)))
@@ -139,6 +178,39 @@ public class EmployeeServiceTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
     }
 
+    @Test
+    void testCreateEmployeeAsync_QueuesValidatedRequest() {
+        CreateEmployeeDto createEmployeeDto = CreateEmployeeDto.builder().name("John Doe").salary(1000).age(32).title("Manager").build();
+        CreateEmployeeJob queued = CreateEmployeeJob.builder().jobId("job-1").status(CreateEmployeeJob.Status.QUEUED).build();
+
+        when(objectMapper.convertValue(any(), eq(CreateEmployeeDto.class))).thenReturn(createEmployeeDto);
+        when(employeeCreateQueue.submit(createEmployeeDto)).thenReturn(queued);
+
+        CreateEmployeeJob result = employeeService.createEmployeeAsync(new Object());
+
+        assertEquals("job-1", result.getJobId());
+        assertEquals(CreateEmployeeJob.Status.QUEUED, result.getStatus());
+        verifyNoInteractions(restTemplateService);
+    }
+
+    @Test
+    void testCreateEmployeeAsync_InvalidInput_NotQueued() {
+        CreateEmployeeDto createEmployeeDto = CreateEmployeeDto.builder().name("").salary(-1).age(32).title("Manager").build();
+        when(objectMapper.convertValue(any(), eq(CreateEmployeeDto.class))).thenReturn(createEmployeeDto);
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.createEmployeeAsync(new Object()));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(employeeCreateQueue);
+    }
+
+    @Test
+    void testGetCreateEmployeeJob_Unknown_ThrowsException() {
+        when(employeeCreateQueue.find("missing")).thenReturn(Optional.empty());
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getCreateEmployeeJob("missing"));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
     @Test
     void testDeleteEmployee_Success() {
         EmployeeResponse employeeResponse = new EmployeeResponse();
@@ -146,31 +218,210 @@ public class EmployeeServiceTest {
         employee.setName("John Doe");
         employeeResponse.setData(employee);
 
-        // Mock DeleteEmployeeResponse
-        DeleteEmployeeResponse deleteResponse = new DeleteEmployeeResponse();
-        deleteResponse.setFlag(true);  // Ensure name matches expected output
-
-        // Mock API Calls
-        when(restTemplateService.getEmployeeById(anyString(), any(), eq(EmployeeResponse.class), any()))
+        // Upstream deletes by id and returns the removed employee
+        when(restTemplateService.deleteEmployeeById(anyString(), eq(HttpMethod.DELETE), eq(EmployeeResponse.class), eq(ID_1)))
                 .thenReturn(new ResponseEntity<>(employeeResponse, HttpStatus.OK));
 
-        when(restTemplateService.deleteEmployeeByName(anyString(), any(), any()))
-                .thenReturn(new ResponseEntity<>(deleteResponse, HttpStatus.OK));
-
         // Call method
-        String result = employeeService.deleteEmployee("1");
+        String result = employeeService.deleteEmployee(ID_1);
 
         // Assertions
         assertNotNull(result);
         assertEquals("John Doe", result); // Ensure returned value matches expected
+        verify(restTemplateService, never()).getEmployeeById(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void testDeleteEmployee_DropsCachedRoster() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).build();
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(List.of(employee1)).build(), HttpStatus.OK));
+        when(restTemplateService.deleteEmployeeById(anyString(), eq(HttpMethod.DELETE), eq(EmployeeResponse.class), eq(ID_1)))
+                .thenReturn(new ResponseEntity<>(EmployeeResponse.builder().data(employee1).build(), HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        employeeService.deleteEmployee(ID_1);
+
+        assertTrue(employeeRosterCache.fresh().isEmpty());
     }
 
     @Test
     void testDeleteEmployee_NotFound_ThrowsException() {
-        when(restTemplateService.getEmployeeById(anyString(), any(), eq(EmployeeResponse.class), any()))
+        when(restTemplateService.deleteEmployeeById(anyString(), any(), eq(EmployeeResponse.class), any()))
                 .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
 
-        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.deleteEmployee("1"));
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.deleteEmployee(ID_1));
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
     }
+
+    @Test
+    void testGetEmployeesByIds_ColdCache_OneRosterRead() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).build();
+        Employee employee2 = Employee.builder().name("Jane Austin").id(ID_2).salary(2000).build();
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(List.of(employee1, employee2)).build(), HttpStatus.OK));
+
+        EmployeeBatch result = employeeService.getEmployeesByIds(List.of(ID_2, ID_3, ID_1, ID_2));
+
+        assertEquals(List.of(employee2, employee1), result.getData());
+        assertEquals(List.of(ID_3), result.getMissingIds());
+        verify(restTemplateService, times(1)).getAllEmployeesList(anyString(), any(), eq(EmployeeList.class));
+        verify(restTemplateService, never()).getEmployeeById(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void testGetEmployeesByIds_FreshSnapshot_NoUpstreamCall() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).build();
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(List.of(employee1)).build(), HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        EmployeeBatch result = employeeService.getEmployeesByIds(List.of(ID_1, ID_9));
+
+        assertEquals(List.of(employee1), result.getData());
+        assertEquals(List.of(ID_9), result.getMissingIds());
+        verify(restTemplateService, times(1)).getAllEmployeesList(anyString(), any(), eq(EmployeeList.class));
+    }
+
+    @Test
+    void testGetEmployeesByIds_HotIds_NoUpstreamCall() {
+        EmployeeResponse employeeResponse = EmployeeResponse.builder().data(Employee.builder().id(ID_1).name("John Doe").build()).build();
+        when(restTemplateService.getEmployeeById(anyString(), any(), eq(EmployeeResponse.class), any()))
+                .thenReturn(new ResponseEntity<>(employeeResponse, HttpStatus.OK));
+        employeeService.getEmployeeById(ID_1);
+
+        EmployeeBatch result = employeeService.getEmployeesByIds(List.of(ID_1));
+
+        assertEquals("John Doe", result.getData().get(0).getName());
+        assertTrue(result.getMissingIds().isEmpty());
+        verify(restTemplateService, never()).getAllEmployeesList(anyString(), any(), any());
+    }
+
+    @Test
+    void testGetEmployeesByIds_NoIds_ThrowsException() {
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getEmployeesByIds(List.of(" ")));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(restTemplateService);
+    }
+
+    @Test
+    void testQueryEmployees_FiltersAndSortsCachedSnapshot() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).age(30).title("Manager").build();
+        Employee employee2 = Employee.builder().name("Jane Austin").id(ID_2).salary(3000).age(40).title("Developer").build();
+        Employee employee3 = Employee.builder().name("Mark Twain").id(ID_3).salary(2000).age(50).title("developer").build();
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(List.of(employee1, employee2, employee3)).build(), HttpStatus.OK));
+
+        List<Employee> result = employeeService.queryEmployees(
+                EmployeeQuery.builder().minSalary(1500).title("DEVELOPER").sort("salary").order("desc").build());
+        List<Employee> youngest = employeeService.queryEmployees(EmployeeQuery.builder().sort("age").limit(1).build());
+
+        assertEquals(List.of(employee2, employee3), result);
+        assertEquals(List.of(employee1), youngest);
+        verify(restTemplateService, times(1)).getAllEmployeesList(anyString(), any(), eq(EmployeeList.class));
+    }
+
+    @Test
+    void testQueryEmployees_InvalidQuery_ThrowsException() {
+        for (EmployeeQuery query : List.of(
+                EmployeeQuery.builder().minSalary(2000).maxSalary(1000).build(),
+                EmployeeQuery.builder().sort("name").build(),
+                EmployeeQuery.builder().order("up").build(),
+                EmployeeQuery.builder().limit(ApiConstants.MAX_QUERY_LIMIT + 1).build())) {
+            EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.queryEmployees(query));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        }
+        verifyNoInteractions(restTemplateService);
+    }
+
+    @Test
+    void testMalformedIds_RejectedWithoutUpstreamCall() {
+        for (Runnable call : List.<Runnable>of(
+                () -> employeeService.getEmployeeById("1"),
+                () -> employeeService.deleteEmployee("not-a-uuid"),
+                () -> employeeService.getEmployeesByIds(List.of(ID_1, "1")))) {
+            EmployeeException exception = assertThrows(EmployeeException.class, call::run);
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        }
+        verifyNoInteractions(restTemplateService);
+    }
+
+    @Test
+    void testGetEmployeesByIds_UpperCaseIdMatchesCachedEmployee() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).build();
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(List.of(employee1)).build(), HttpStatus.OK));
+
+        EmployeeBatch result = employeeService.getEmployeesByIds(List.of(ID_1.toUpperCase()));
+
+        assertEquals(List.of(employee1), result.getData());
+        assertTrue(result.getMissingIds().isEmpty());
+    }
+
+    @Test
+    void testAggregates_FreshSnapshot_NoUpstreamCall() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).build();
+        Employee employee2 = Employee.builder().name("Jane Austin").id(ID_2).salary(2000).build();
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(List.of(employee1, employee2)).build(), HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        assertEquals(2000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Jane Austin", "John Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(employee2), employeeService.getEmployeesByNameSearch("austin"));
+        verify(restTemplateService, times(1)).getAllEmployeesList(anyString(), any(), eq(EmployeeList.class));
+        verify(restTemplateService, never()).streamAllEmployees(anyString(), any());
+    }
+
+    @Test
+    void testAggregates_NoSnapshot_StreamRoster() {
+        Employee employee1 = Employee.builder().name("John Doe").id(ID_1).salary(1000).build();
+        Employee employee2 = Employee.builder().name("Jane Austin").id(ID_2).salary(2000).build();
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(1);
+            List.of(employee1, employee2).forEach(consumer);
+            return null;
+        }).when(restTemplateService).streamAllEmployees(eq(ApiConstants.GET_EMPLOYEE_URL), any());
+
+        assertEquals(2000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Jane Austin", "John Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(employee1), employeeService.getEmployeesByNameSearch("JOHN"));
+        verify(restTemplateService, times(3)).streamAllEmployees(anyString(), any());
+        verify(restTemplateService, never()).getAllEmployeesList(anyString(), any(), any());
+    }
+
+    @Test
+    void testNameSearch_TooManyMatches_SameCeilingOnBothPaths() {
+        List<Employee> roster = List.of(
+                Employee.builder().name("John Doe").id(ID_1).salary(1000).build(),
+                Employee.builder().name("Joan Doe").id(ID_2).salary(2000).build());
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(1);
+            roster.forEach(consumer);
+            return null;
+        }).when(restTemplateService).streamAllEmployees(anyString(), any());
+        when(restTemplateService.getAllEmployeesList(anyString(), any(), eq(EmployeeList.class)))
+                .thenReturn(new ResponseEntity<>(EmployeeList.builder().data(roster).build(), HttpStatus.OK));
+        EmployeeService service = new EmployeeService(
+                objectMapper, restTemplateService, employeeCreateQueue, employeeRosterCache,
+                new RosterAggregator(1, Integer.MAX_VALUE),
+                new RosterStream(restTemplateService, 4, Duration.ofSeconds(1), 1));
+
+        EmployeeException streamed = assertThrows(EmployeeException.class, () -> service.getEmployeesByNameSearch("doe"));
+        service.getAllEmployees();
+        EmployeeException fromSnapshot = assertThrows(EmployeeException.class, () -> service.getEmployeesByNameSearch("doe"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, streamed.getStatusCode());
+        assertEquals(streamed.getMessage(), fromSnapshot.getMessage());
+        assertEquals(1, service.getEmployeesByNameSearch("joan").size());
+    }
+
+    @Test
+    void testAggregates_StreamFailure_ThrowsException() {
+        doThrow(new ResourceAccessException("reset"))
+                .when(restTemplateService).streamAllEmployees(anyString(), any());
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getHighestSalaryOfEmployees());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+    }
 }
@@ -0,0 +1,79 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LatencyRecorderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void eachReaderSeesItsOwnIntervals() {
+        LatencyRecorder recorder = new LatencyRecorder(objectMapper, "", Duration.ofSeconds(60));
+        LatencyRecorder.Interval other = recorder.interval();
+        recorder.record("GET /api/v1/employee/highestSalary", 30_000, 20_000, 9_000, 1_000);
+        recorder.record("GET /api/v1/employee/highestSalary", 10_000, 0, 9_000, 1_000);
+
+        JsonNode first = objectMapper.valueToTree(recorder.nextInterval());
+        JsonNode second = objectMapper.valueToTree(recorder.nextInterval());
+
+        JsonNode phases = first.path("endpoints").path("GET /api/v1/employee/highestSalary");
+        assertEquals(List.of("total", "upstream", "compute", "serialization"), fieldNames(phases));
+        assertEquals(2, phases.path("total").path("count").asLong());
+        assertEquals(30.0, phases.path("total").path("max").asDouble(), 30.0 / 64);
+        assertEquals(0.0, phases.path("upstream").path("p50").asDouble());
+        assertEquals(20.0, phases.path("upstream").path("p99").asDouble(), 20.0 / 64);
+        assertEquals(0, second.path("endpoints").path("GET /api/v1/employee/highestSalary")
+                .path("total").path("count").asLong());
+        assertEquals(first.path("end"), second.path("start"));
+
+        Map<String, Object> untouched = other.next();
+        assertEquals(2, objectMapper.valueToTree(untouched).path("endpoints")
+                .path("GET /api/v1/employee/highestSalary").path("total").path("count").asLong());
+    }
+
+    @Test
+    void dumpsIntervalsToFileAsJsonLines(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("latency.jsonl");
+        LatencyRecorder recorder = new LatencyRecorder(objectMapper, file.toString(), Duration.ofMillis(20));
+        recorder.start();
+        try {
+            recorder.record("GET /api/v1/employee/search/{searchString}", 5_000, 4_000, 500, 500);
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (lines(file).size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            recorder.stop();
+        }
+
+        List<String> lines = lines(file);
+        assertTrue(lines.size() >= 2);
+        long recorded = 0;
+        for (String line : lines) {
+            recorded += objectMapper.readTree(line).path("endpoints")
+                    .path("GET /api/v1/employee/search/{searchString}").path("total").path("count").asLong();
+        }
+        assertEquals(1, recorded);
+    }
+
+    private static List<String> lines(Path file) throws Exception {
+        return Files.exists(file) ? Files.readAllLines(file) : List.of();
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
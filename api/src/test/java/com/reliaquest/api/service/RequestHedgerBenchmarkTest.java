@@ -0,0 +1,70 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares read latency percentiles and upstream request counts with and without hedging, against a simulated
+ * upstream that answers in 2ms except for 3% of requests that take 60ms. Run with {@code ./gradlew :api:benchmark}.
+ */
+@Tag("benchmark")
+public class RequestHedgerBenchmarkTest {
+
+    private static final int READS = 1_000;
+
+    @Test
+    void hedgingCutsTailLatency() {
+        RequestHedger unhedged = new RequestHedger(false, 95, Duration.ofMillis(5), 0.05, 16);
+        RequestHedger hedged = new RequestHedger(true, 95, Duration.ofMillis(5), 0.05, 16);
+        try {
+            Result before = run(unhedged);
+            Result after = run(hedged);
+            System.out.printf("%-10s %8s %8s %8s %10s%n", "", "p50 ms", "p99 ms", "max ms", "upstream");
+            System.out.printf("%-10s %8.1f %8.1f %8.1f %10d%n", "unhedged", before.p50(), before.p99(), before.max(), before.attempts());
+            System.out.printf("%-10s %8.1f %8.1f %8.1f %10d%n", "hedged", after.p50(), after.p99(), after.max(), after.attempts());
+
+            assertTrue(after.p99() < before.p99());
+            assertTrue(after.attempts() <= READS * 1.06);
+        } finally {
+            unhedged.shutdown();
+            hedged.shutdown();
+        }
+    }
+
+    private static Result run(RequestHedger hedger) {
+        Random random = new Random(11);
+        AtomicInteger attempts = new AtomicInteger();
+        double[] millis = new double[READS];
+        for (int i = 0; i < READS; i++) {
+            long start = System.nanoTime();
+            hedger.execute(() -> {
+                attempts.incrementAndGet();
+                boolean slow;
+                synchronized (random) {
+                    slow = random.nextInt(100) < 3;
+                }
+                sleep(slow ? 60 : 2);
+                return "employee";
+            });
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return new Result(millis[READS / 2], millis[(int) Math.ceil(READS * 0.99) - 1], millis[READS - 1], attempts.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double p50, double p99, double max, int attempts) {}
+}
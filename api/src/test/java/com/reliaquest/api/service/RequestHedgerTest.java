@@ -0,0 +1,189 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class RequestHedgerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void noHedgingUntilEnoughLatenciesAreRecorded() {
+        hedger = primed(0.5, 19);
+        assertNull(hedger.hedgeDelay());
+
+        hedger.execute(() -> "fast");
+        assertEquals(Duration.ofMillis(25), hedger.hedgeDelay());
+    }
+
+    @Test
+    void slowAttemptLosesToHedge() {
+        hedger = primed(0.5, 20);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> calls.incrementAndGet() == 1 ? blocked("primary") : "hedge");
+
+        assertEquals("hedge", result);
+        assertEquals(2, calls.get());
+        assertEquals(1, hedger.hedgeCount());
+    }
+
+    @Test
+    void losingAttemptIsCancelled() throws Exception {
+        hedger = primed(0.5, 20);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        String result = hedger.execute(() -> {
+            if (calls.incrementAndGet() > 1) {
+                return "hedge";
+            }
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "primary";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void saturatedPoolSkipsHedgeInsteadOfRunningItOnCaller() {
+        hedger = primed(0.5, 20, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            if (calls.incrementAndGet() > 1) {
+                return "hedge";
+            }
+            sleep(150);
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, calls.get());
+        assertEquals(0, hedger.hedgeCount());
+    }
+
+    @Test
+    void transportFailureFallsBackToOtherAttempt() {
+        hedger = primed(0.5, 20);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(150);
+                throw new ResourceAccessException("Connection reset");
+            }
+            sleep(300);
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+    }
+
+    @Test
+    void emptyBudgetWaitsForFirstAttempt() {
+        hedger = primed(0, 20);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            calls.incrementAndGet();
+            sleep(150);
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, calls.get());
+        assertEquals(0, hedger.hedgeCount());
+    }
+
+    @Test
+    void rateLimitedResponseEmptiesBudget() {
+        hedger = primed(0.5, 20);
+
+        HttpClientErrorException limited = assertThrows(HttpClientErrorException.class, () -> hedger.execute(() -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+        long hedgesBefore = hedger.hedgeCount();
+        String result = hedger.execute(() -> {
+            sleep(150);
+            return "primary";
+        });
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getStatusCode());
+        assertEquals("primary", result);
+        assertEquals(hedgesBefore, hedger.hedgeCount());
+    }
+
+    @Test
+    void notFoundIsNotHedged() {
+        hedger = primed(0.5, 20);
+        AtomicInteger calls = new AtomicInteger();
+
+        Supplier<String> notFound = () -> {
+            calls.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+        };
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> hedger.execute(notFound));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void disabledRunsOnCallingThread() {
+        assertEquals(Thread.currentThread().getName(), RequestHedger.disabled().execute(() -> Thread.currentThread()
+                .getName()));
+    }
+
+    private static RequestHedger primed(double budgetRatio, int calls) {
+        return primed(budgetRatio, calls, 4);
+    }
+
+    private static RequestHedger primed(double budgetRatio, int calls, int maxThreads) {
+        RequestHedger hedger = new RequestHedger(true, 95, Duration.ofMillis(25), budgetRatio, maxThreads);
+        for (int i = 0; i < calls; i++) {
+            hedger.execute(() -> "fast");
+        }
+        return hedger;
+    }
+
+    private String blocked(String result) {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
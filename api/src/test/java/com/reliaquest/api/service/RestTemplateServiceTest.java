@@ -0,0 +1,131 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeList;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.utils.ApiConstants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+public class RestTemplateServiceTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType(ApiConstants.SMILE_MEDIA_TYPE);
+
+    private MockRestServiceServer server;
+    private RestTemplateService restTemplateService;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate(List.of(
+                new MappingJackson2SmileHttpMessageConverter(), new MappingJackson2HttpMessageConverter()));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        restTemplateService = new RestTemplateService(restTemplate);
+    }
+
+    @Test
+    void testGetAllEmployeesList_PrefersSmileAndDecodesIt() throws Exception {
+        byte[] body = new SmileMapper().writeValueAsBytes(Map.of(
+                "data", List.of(upstreamEmployee("1", "John Doe"), upstreamEmployee("2", "Jane Austin")),
+                "status", "Successfully processed request."));
+
+        server.expect(requestTo(ApiConstants.GET_EMPLOYEE_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.ACCEPT, ApiConstants.SMILE_MEDIA_TYPE + ", application/json;q=0.9"))
+                .andRespond(withSuccess(body, SMILE));
+
+        EmployeeList result = restTemplateService
+                .getAllEmployeesList(ApiConstants.GET_EMPLOYEE_URL, HttpMethod.GET, EmployeeList.class)
+                .getBody();
+
+        server.verify();
+        assertNotNull(result);
+        assertEquals(2, result.getData().size());
+        assertEquals("John Doe", result.getData().get(0).getName());
+        assertEquals(1000, result.getData().get(0).getSalary());
+    }
+
+    @Test
+    void testGetEmployeeById_FallsBackToJson() {
+        server.expect(requestTo(ApiConstants.GET_EMPLOYEE_URL + "/1"))
+                .andExpect(header(HttpHeaders.ACCEPT, ApiConstants.SMILE_MEDIA_TYPE + ", application/json;q=0.9"))
+                .andRespond(withSuccess(
+                        "{\"data\":{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":1000}}",
+                        MediaType.APPLICATION_JSON));
+
+        EmployeeResponse result = restTemplateService
+                .getEmployeeById(ApiConstants.GET_EMPLOYEE_ID_URL, HttpMethod.GET, EmployeeResponse.class, "1")
+                .getBody();
+
+        server.verify();
+        assertNotNull(result);
+        assertEquals("John Doe", result.getData().getName());
+    }
+
+    @Test
+    void testStreamAllEmployees_DecodesSmileOneEmployeeAtATime() throws Exception {
+        byte[] body = new SmileMapper().writeValueAsBytes(Map.of(
+                "status", "Successfully processed request.",
+                "data", List.of(upstreamEmployee("1", "John Doe"), upstreamEmployee("2", "Jane Austin"))));
+
+        server.expect(requestTo(ApiConstants.GET_EMPLOYEE_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.ACCEPT, ApiConstants.SMILE_MEDIA_TYPE + ", application/json;q=0.9"))
+                .andRespond(withSuccess(body, SMILE));
+
+        List<Employee> streamed = new ArrayList<>();
+        restTemplateService.streamAllEmployees(ApiConstants.GET_EMPLOYEE_URL, streamed::add);
+
+        server.verify();
+        assertEquals(List.of("John Doe", "Jane Austin"), streamed.stream().map(Employee::getName).toList());
+        assertEquals(1000, streamed.get(0).getSalary());
+    }
+
+    @Test
+    void testStreamAllEmployees_SkipsOtherFieldsAndNullEntriesInJson() {
+        server.expect(requestTo(ApiConstants.GET_EMPLOYEE_URL))
+                .andRespond(withSuccess(
+                        "{\"meta\":{\"page\":[1,2]},\"data\":[{\"id\":\"1\",\"employee_name\":\"John Doe\"},null,"
+                                + "{\"id\":\"2\",\"employee_name\":\"Jane Austin\"}],\"status\":\"ok\"}",
+                        MediaType.APPLICATION_JSON));
+
+        List<Employee> streamed = new ArrayList<>();
+        restTemplateService.streamAllEmployees(ApiConstants.GET_EMPLOYEE_URL, streamed::add);
+
+        assertEquals(List.of("John Doe", "Jane Austin"), streamed.stream().map(Employee::getName).toList());
+    }
+
+    @Test
+    void testStreamAllEmployees_MalformedBody_ThrowsResourceAccessException() {
+        server.expect(requestTo(ApiConstants.GET_EMPLOYEE_URL))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplateService.streamAllEmployees(ApiConstants.GET_EMPLOYEE_URL, employee -> {}));
+    }
+
+    static Map<String, Object> upstreamEmployee(String id, String name) {
+        return Map.of(
+                "id", id,
+                "employee_name", name,
+                "employee_salary", 1000,
+                "employee_age", 30,
+                "employee_title", "Manager",
+                "employee_email", name.toLowerCase().replace(' ', '.') + "@company.com");
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Times the roster aggregations sequentially and on the fork-join pool across roster sizes, to find where parallel
+ * execution starts to pay off, and across pool sizes on a million-row roster, to see how it scales with cores. Run
+ * with {@code ./gradlew :api:benchmark}.
+ */
+@Tag("benchmark")
+public class RosterAggregatorBenchmarkTest {
+
+    private static final int[] SIZES = {10_000, 50_000, 100_000, 200_000, 500_000, 1_000_000};
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Test
+    void crossoverAndScaling() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        RosterAggregator sequential = new RosterAggregator(1, Integer.MAX_VALUE);
+        RosterAggregator parallel = new RosterAggregator(cores, 1);
+        try {
+            System.out.printf("crossover on %d cores, ms per call (sequential / parallel)%n", cores);
+            System.out.printf("  %10s %18s %18s %18s%n", "employees", "max salary", "top 10", "name filter");
+            for (int size : SIZES) {
+                List<Employee> roster = RosterAggregatorTest.roster(size, size);
+                System.out.printf("  %,10d %18s %18s %18s%n", size,
+                        compare(roster, sequential::maxSalary, parallel::maxSalary),
+                        compare(roster, r -> sequential.topBySalary(r, 10).size(), r -> parallel.topBySalary(r, 10).size()),
+                        compare(roster, r -> sequential.filterByName(r, "doe").size(), r -> parallel.filterByName(r, "doe").size()));
+            }
+
+            List<Employee> roster = RosterAggregatorTest.roster(1_000_000, 1);
+            System.out.printf("scaling on 1,000,000 employees, ms per call%n");
+            System.out.printf("  %10s %12s %12s %12s%n", "threads", "max salary", "top 10", "name filter");
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                RosterAggregator pool = new RosterAggregator(threads, 1);
+                try {
+                    System.out.printf("  %10d %12.2f %12.2f %12.2f%n", threads,
+                            millisPerCall(roster, pool::maxSalary),
+                            millisPerCall(roster, r -> pool.topBySalary(r, 10).size()),
+                            millisPerCall(roster, r -> pool.filterByName(r, "doe").size()));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    private static String compare(
+            List<Employee> roster, ToIntFunction<List<Employee>> sequential, ToIntFunction<List<Employee>> parallel) {
+        assertEquals(sequential.applyAsInt(roster), parallel.applyAsInt(roster));
+        return String.format("%.2f / %.2f", millisPerCall(roster, sequential), millisPerCall(roster, parallel));
+    }
+
+    private static double millisPerCall(List<Employee> roster, ToIntFunction<List<Employee>> operation) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.applyAsInt(roster);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += operation.applyAsInt(roster);
+        }
+        assertNotEquals(Integer.MIN_VALUE, sink);
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+}
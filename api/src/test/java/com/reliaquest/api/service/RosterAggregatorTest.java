@@ -0,0 +1,79 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class RosterAggregatorTest {
+
+    private static final String[] NAMES = {"John Doe", "Jane Austin", "Joan Doherty", "Mark Twain", "Doe Ray"};
+
+    // Threshold 1 forces every call through the fork-join path, with ranges of MIN_RANGE.
+    private final RosterAggregator parallel = new RosterAggregator(4, 1);
+
+    @AfterEach
+    void tearDown() {
+        parallel.shutdown();
+    }
+
+    @Test
+    void parallelResultsMatchSequentialStreams() {
+        List<Employee> roster = roster(100_000, 42);
+
+        assertEquals(roster.stream().mapToInt(Employee::getSalary).max().orElse(0), parallel.maxSalary(roster));
+        assertEquals(
+                roster.stream()
+                        .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+                        .limit(10)
+                        .collect(Collectors.toList()),
+                parallel.topBySalary(roster, 10));
+        assertEquals(
+                roster.stream()
+                        .filter(employee -> employee.getName().toLowerCase().contains("doe"))
+                        .collect(Collectors.toList()),
+                parallel.filterByName(roster, "DoE"));
+    }
+
+    @Test
+    void tiesKeepRosterOrder() {
+        List<Employee> roster = List.of(employee("a", 100), employee("b", 300), employee("c", 300), employee("d", 200));
+
+        assertEquals(List.of("b", "c", "d"), parallel.topBySalary(roster, 3).stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void emptyAndMissingValues() {
+        assertEquals(0, parallel.maxSalary(List.of()));
+        assertTrue(parallel.topBySalary(List.of(), 10).isEmpty());
+
+        List<Employee> roster = List.of(Employee.builder().id("x").build(), employee("y", 5));
+        assertEquals(5, parallel.maxSalary(roster));
+        assertEquals(List.of("y"), parallel.topBySalary(roster, 10).stream().map(Employee::getId).toList());
+        assertEquals(List.of("y"), parallel.filterByName(roster, "y").stream().map(Employee::getId).toList());
+    }
+
+    static List<Employee> roster(int size, long seed) {
+        Random random = new Random(seed);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // A narrow salary range makes ties common.
+            employees.add(Employee.builder()
+                    .id(Integer.toString(i))
+                    .name(NAMES[random.nextInt(NAMES.length)] + " " + i)
+                    .salary(30_000 + random.nextInt(5_000))
+                    .build());
+        }
+        return employees;
+    }
+
+    private static Employee employee(String id, int salary) {
+        return Employee.builder().id(id).name(id).salary(salary).build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EncodedEmployee;
+import com.reliaquest.api.model.EncodedEmployeeList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class RosterIndexTest {
+
+    private static final String[] TITLES = {"Manager", "developer", "Tester", null};
+
+    @Test
+    void matchesBruteForceFilterAndSort() {
+        Random random = new Random(7);
+        List<EncodedEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // Narrow ranges and some missing values, so that ties and gaps are common.
+            employees.add(new EncodedEmployee(
+                    Employee.builder()
+                            .id(Integer.toString(i))
+                            .salary(random.nextInt(20) == 0 ? null : 1_000 + random.nextInt(500))
+                            .age(random.nextInt(20) == 0 ? null : 18 + random.nextInt(50))
+                            .title(TITLES[random.nextInt(TITLES.length)])
+                            .build(),
+                    new byte[0]));
+        }
+        RosterIndex index = new RosterIndex(new EncodedEmployeeList(employees));
+
+        for (int i = 0; i < 2_000; i++) {
+            Integer minSalary = random.nextBoolean() ? null : 1_000 + random.nextInt(500);
+            Integer maxSalary = random.nextBoolean() ? null : 1_000 + random.nextInt(500);
+            Integer minAge = random.nextBoolean() ? null : 18 + random.nextInt(50);
+            Integer maxAge = random.nextBoolean() ? null : 18 + random.nextInt(50);
+            String title = random.nextBoolean() ? null : random.nextBoolean() ? "MANAGER" : " Tester ";
+            RosterIndex.Field[] fields = RosterIndex.Field.values();
+            RosterIndex.Field sort = random.nextBoolean() ? null : fields[random.nextInt(fields.length)];
+            RosterIndex.Query query = new RosterIndex.Query(
+                    minSalary, maxSalary, minAge, maxAge, title, sort, random.nextBoolean(), 1 + random.nextInt(300));
+
+            assertEquals(bruteForce(employees, query), index.query(query), query.toString());
+        }
+    }
+
+    @Test
+    void emptyRangesAndUnknownTitlesMatchNothing() {
+        RosterIndex index = new RosterIndex(new EncodedEmployeeList(List.of(
+                employee("1", 100, 30, "Manager"), employee("2", 200, 40, "Developer"))));
+
+        assertTrue(index.query(new RosterIndex.Query(300, null, null, null, null, null, false, 10)).isEmpty());
+        assertTrue(index.query(new RosterIndex.Query(null, null, null, null, "Tester", null, false, 10)).isEmpty());
+        assertEquals(
+                List.of("2"),
+                index.query(new RosterIndex.Query(null, null, null, Integer.MAX_VALUE, "developer", null, false, 10))
+                        .stream()
+                        .map(Employee::getId)
+                        .toList());
+    }
+
+    @Test
+    void descendingSortKeepsRosterOrderForTies() {
+        RosterIndex index = new RosterIndex(new EncodedEmployeeList(List.of(
+                employee("1", 100, 30, null),
+                employee("2", 300, 30, null),
+                employee("3", 300, 30, null),
+                employee("4", null, 30, null))));
+
+        assertEquals(
+                List.of("2", "3", "1", "4"),
+                index.query(new RosterIndex.Query(null, null, null, null, null, RosterIndex.Field.SALARY, true, 10))
+                        .stream()
+                        .map(Employee::getId)
+                        .toList());
+    }
+
+    private static List<Employee> bruteForce(List<EncodedEmployee> employees, RosterIndex.Query query) {
+        Function<Employee, Integer> value = query.sort() == RosterIndex.Field.SALARY ? Employee::getSalary : Employee::getAge;
+        Comparator<Integer> order = query.descending() ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        return employees.stream()
+                .filter(employee -> inRange(employee.getSalary(), query.minSalary(), query.maxSalary()))
+                .filter(employee -> inRange(employee.getAge(), query.minAge(), query.maxAge()))
+                .filter(employee -> query.title() == null
+                        || query.title().trim().equalsIgnoreCase(employee.getTitle()))
+                .sorted(query.sort() == null
+                        ? (left, right) -> 0
+                        : Comparator.comparing(value, Comparator.nullsLast(order)))
+                .limit(query.limit())
+                .collect(Collectors.toList());
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        return (min == null && max == null)
+                || (value != null && (min == null || value >= min) && (max == null || value <= max));
+    }
+
+    private static EncodedEmployee employee(String id, Integer salary, Integer age, String title) {
+        return new EncodedEmployee(
+                Employee.builder().id(id).salary(salary).age(age).title(title).build(), new byte[0]);
+    }
+}
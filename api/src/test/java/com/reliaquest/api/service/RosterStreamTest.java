@@ -0,0 +1,121 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+public class RosterStreamTest {
+
+    private final RestTemplateService restTemplateService = mock(RestTemplateService.class);
+    private final RosterAggregator aggregator = new RosterAggregator(1, Integer.MAX_VALUE);
+
+    @Test
+    void streamedResultsMatchTheAggregator() {
+        List<Employee> roster = RosterAggregatorTest.roster(20_000, 7);
+        upstreamReturns(roster);
+        RosterStream stream = new RosterStream(restTemplateService, 1, Duration.ofSeconds(1), 100_000);
+
+        assertEquals(aggregator.maxSalary(roster), stream.maxSalary());
+        assertEquals(aggregator.topBySalary(roster, 10), stream.topBySalary(10));
+        assertEquals(aggregator.filterByName(roster, "DoE"), stream.filterByName("DoE"));
+    }
+
+    @Test
+    void tiesAndMissingValues() {
+        List<Employee> roster = List.of(
+                employee("a", 100), Employee.builder().id("x").build(), employee("b", 300), employee("c", 300));
+        upstreamReturns(roster);
+        RosterStream stream = new RosterStream(restTemplateService, 1, Duration.ofSeconds(1), 100);
+
+        assertEquals(List.of("b", "c"), stream.topBySalary(2).stream().map(Employee::getId).toList());
+        assertTrue(stream.topBySalary(0).isEmpty());
+
+        upstreamReturns(List.of());
+        assertEquals(0, stream.maxSalary());
+        assertTrue(stream.topBySalary(10).isEmpty());
+    }
+
+    @Test
+    void tooManyMatchesFailRatherThanGrow() {
+        upstreamReturns(RosterAggregatorTest.roster(1_000, 3));
+        RosterStream stream = new RosterStream(restTemplateService, 1, Duration.ofSeconds(1), 10);
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> stream.filterByName("o"));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(1, stream.filterByName(" 999").size());
+    }
+
+    @Test
+    void callersBeyondMaxConcurrentWaitThenGiveUp() throws Exception {
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            streaming.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(restTemplateService).streamAllEmployees(anyString(), any());
+        RosterStream stream = new RosterStream(restTemplateService, 1, Duration.ofMillis(50), 100);
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(stream::maxSalary);
+        assertTrue(streaming.await(5, TimeUnit.SECONDS));
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> stream.topBySalary(10));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+
+        finish.countDown();
+        assertEquals(0, first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, stream.maxSalary());
+    }
+
+    @Test
+    void concurrentCallersOfOneAggregateShareItsStream() throws Exception {
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            streaming.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            Consumer<Employee> consumer = invocation.getArgument(1);
+            consumer.accept(employee("a", 100));
+            return null;
+        }).when(restTemplateService).streamAllEmployees(anyString(), any());
+        RosterStream stream = new RosterStream(restTemplateService, 1, Duration.ofMillis(50), 100);
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(stream::maxSalary);
+        assertTrue(streaming.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> joined = CompletableFuture.supplyAsync(stream::maxSalary);
+        // Longer than the acquire timeout, so the second caller would have been turned away had it not joined.
+        Thread.sleep(100);
+        finish.countDown();
+
+        assertEquals(100, first.get(5, TimeUnit.SECONDS));
+        assertEquals(100, joined.get(5, TimeUnit.SECONDS));
+        verify(restTemplateService, times(1)).streamAllEmployees(anyString(), any());
+    }
+
+    private void upstreamReturns(List<Employee> roster) {
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(1);
+            roster.forEach(consumer);
+            return null;
+        }).when(restTemplateService).streamAllEmployees(anyString(), any());
+    }
+
+    private static Employee employee(String id, int salary) {
+        return Employee.builder().id(id).name(id).salary(salary).build();
+    }
+}
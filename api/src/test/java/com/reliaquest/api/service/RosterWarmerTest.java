@@ -0,0 +1,130 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+public class RosterWarmerTest {
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final EmployeeRosterCache employeeRosterCache =
+            new EmployeeRosterCache(new ObjectMapper(), Duration.ofSeconds(30), 100);
+    private RosterWarmer warmer;
+
+    @AfterEach
+    void tearDown() {
+        if (warmer != null) {
+            warmer.stop();
+        }
+    }
+
+    @Test
+    void warmOnlyOnceARosterLoadSucceeds() throws Exception {
+        when(employeeService.getAllEmployees())
+                .thenThrow(new EmployeeException(HttpStatus.NOT_FOUND, "Employees List Not Found"))
+                .thenThrow(new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE, "Failed to connect"))
+                .thenReturn(List.of(Employee.builder().id("1").build()));
+        warmer = warmer(true, 0.5);
+        assertFalse(warmer.isWarm());
+
+        warmer.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!warmer.isWarm() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertTrue(warmer.isWarm());
+        verify(employeeService, atLeast(3)).getAllEmployees();
+    }
+
+    @Test
+    void failedRefreshKeepsInstanceWarm() throws Exception {
+        when(employeeService.getAllEmployees())
+                .thenReturn(List.of())
+                .thenThrow(new EmployeeException(HttpStatus.SERVICE_UNAVAILABLE, "Failed to connect"));
+        warmer = warmer(true, 0.5);
+        warmer.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!warmer.isWarm() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertFalse(warmer.load());
+        assertTrue(warmer.isWarm());
+    }
+
+    @Test
+    void disabledWarmUpIsWarmWithoutLoading() {
+        warmer = warmer(false, 0.5);
+        warmer.start();
+
+        assertTrue(warmer.isWarm());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void refreshDelaysSpreadByJitterAndRetriesBackOff() {
+        assertEquals(16_000, warmer(true, 0.0, 20_000).nextRefreshDelayMillis());
+        assertEquals(24_000, warmer(true, 1.0, 20_000).nextRefreshDelayMillis());
+        assertEquals(20_000, warmer(true, 0.5, 20_000).nextRefreshDelayMillis());
+
+        RosterWarmer backoff = warmer(true, 0.5, 20_000);
+        assertEquals(10, backoff.retryDelayMillis(1));
+        assertEquals(40, backoff.retryDelayMillis(3));
+        assertEquals(100, backoff.retryDelayMillis(30));
+    }
+
+    @Test
+    void separateProcessesDrawDifferentJitter() throws Exception {
+        // The jitter only repeats across processes, whose fresh threads would otherwise start from the same seed.
+        assertNotEquals(drawInNewProcess(), drawInNewProcess());
+    }
+
+    private static String drawInNewProcess() throws Exception {
+        Process process = new ProcessBuilder(
+                        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-cp", System.getProperty("java.class.path"), JitterDraw.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+        return output;
+    }
+
+    /** Draws refresh delays the way the roster-warmer thread does: on a thread started after the warmer was made. */
+    static class JitterDraw {
+
+        public static void main(String[] args) throws Exception {
+            RosterWarmer warmer = new RosterWarmer(null, null, true, Duration.ofSeconds(20), 0.5,
+                    Duration.ofSeconds(1), Duration.ofSeconds(30));
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 5; i++) {
+                    System.out.println(warmer.nextRefreshDelayMillis());
+                }
+            });
+            worker.start();
+            worker.join();
+        }
+    }
+
+    private RosterWarmer warmer(boolean enabled, double random) {
+        return warmer(enabled, random, 20);
+    }
+
+    private RosterWarmer warmer(boolean enabled, double random, long refreshMillis) {
+        return new RosterWarmer(employeeService, employeeRosterCache, enabled, Duration.ofMillis(refreshMillis), 0.2,
+                Duration.ofMillis(10), Duration.ofMillis(100), () -> random);
+    }
+}
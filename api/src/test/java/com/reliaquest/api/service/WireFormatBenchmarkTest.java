@@ -0,0 +1,84 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.model.EmployeeList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the size and decode time of a full roster payload in JSON and in Smile, using the same upstream shape
+ * the mock server produces. Run with {@code ./gradlew :api:benchmark}.
+ */
+@Tag("benchmark")
+public class WireFormatBenchmarkTest {
+
+    private static final int ROSTER_SIZE = 50_000;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Test
+    void compareJsonAndSmileRosterDecoding() throws Exception {
+        List<Map<String, Object>> employees = upstreamRoster(ROSTER_SIZE);
+        Map<String, Object> roster = Map.of("data", employees, "status", "Successfully processed request.");
+        ObjectMapper json = new ObjectMapper();
+        ObjectMapper smile = upstreamSmileMapper();
+
+        byte[] jsonBytes = json.writeValueAsBytes(roster);
+        byte[] smileBytes = smile.writeValueAsBytes(roster);
+
+        double jsonMillis = averageDecodeMillis(json, jsonBytes);
+        double smileMillis = averageDecodeMillis(smile, smileBytes);
+
+        System.out.printf("roster of %,d employees%n", ROSTER_SIZE);
+        System.out.printf("  json : %,12d bytes  %8.2f ms/decode%n", jsonBytes.length, jsonMillis);
+        System.out.printf("  smile: %,12d bytes  %8.2f ms/decode%n", smileBytes.length, smileMillis);
+        System.out.printf("  smile/json size ratio: %.2f, decode speed-up: %.2fx%n",
+                (double) smileBytes.length / jsonBytes.length, jsonMillis / smileMillis);
+
+        assertTrue(smileBytes.length < jsonBytes.length);
+        // Ids must reach the api in the text form it looks employees up by, whichever format carried them.
+        String firstId = employees.get(0).get("id").toString();
+        assertEquals(firstId, json.readValue(jsonBytes, EmployeeList.class).getData().get(0).getId());
+        assertEquals(firstId, smile.readValue(smileBytes, EmployeeList.class).getData().get(0).getId());
+    }
+
+    /** Smile as the mock server writes it: UUIDs as text, as in JSON, rather than as 16 raw bytes. */
+    static ObjectMapper upstreamSmileMapper() {
+        return new SmileMapper()
+                .registerModule(new SimpleModule().addSerializer(UUID.class, ToStringSerializer.instance));
+    }
+
+    private static double averageDecodeMillis(ObjectMapper mapper, byte[] payload) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(ROSTER_SIZE, mapper.readValue(payload, EmployeeList.class).getData().size());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            assertEquals(ROSTER_SIZE, mapper.readValue(payload, EmployeeList.class).getData().size());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+
+    static List<Map<String, Object>> upstreamRoster(int size) {
+        List<Map<String, Object>> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(Map.of(
+                    "id", UUID.randomUUID(),
+                    "employee_name", "Employee Number " + i,
+                    "employee_salary", 30_000 + (i * 7919) % 470_000,
+                    "employee_age", 16 + i % 55,
+                    "employee_title", "Senior Title " + i % 100,
+                    "employee_email", "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
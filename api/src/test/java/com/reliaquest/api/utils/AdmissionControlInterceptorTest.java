@@ -0,0 +1,87 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class AdmissionControlInterceptorTest {
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 2, 2, 2.0, 0.5);
+    private final EmployeeRosterCache rosterCache = new EmployeeRosterCache(new ObjectMapper(), Duration.ofSeconds(30), 10);
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(limit, rosterCache);
+
+    @Test
+    void shedsReadsOverLimitWith503() throws Exception {
+        MockHttpServletRequest first = admit("GET", handler("getEmployeeById", String.class));
+        admit("GET", handler("getEmployeeById", String.class));
+
+        EmployeeException shed = assertThrows(EmployeeException.class, () -> preHandle("GET", handler("getAllEmployees")));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, shed.getStatusCode());
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        admit("GET", handler("getAllEmployees"));
+    }
+
+    @Test
+    void shedsWritesBeyondTheirShareWith429() throws Exception {
+        admit("DELETE", handler("deleteEmployeeById", String.class));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        EmployeeException shed = assertThrows(EmployeeException.class, () -> interceptor.preHandle(
+                new MockHttpServletRequest("POST", "/api/v1/employee"), response,
+                handler("createEmployee", Object.class)));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, shed.getStatusCode());
+        assertEquals("1", response.getHeader("Retry-After"));
+
+        admit("GET", handler("getEmployeeById", String.class));
+    }
+
+    @Test
+    void queuedCreatesAreAdmittedWhenWriteShareIsExhausted() throws Exception {
+        admit("DELETE", handler("deleteEmployeeById", String.class));
+        assertThrows(EmployeeException.class, () -> preHandle("POST", handler("createEmployee", Object.class)));
+
+        assertTrue(preHandle("POST", handler("createEmployeeAsync", Object.class)));
+        assertEquals(1, limit.getInFlight());
+    }
+
+    @Test
+    void cacheServedReadsBypassLimitWhileRosterIsFresh() throws Exception {
+        admit("GET", handler("getAllEmployees"));
+        admit("GET", handler("getAllEmployees"));
+        assertThrows(EmployeeException.class, () -> preHandle("GET", handler("getEmployeesByIds", List.class)));
+
+        rosterCache.refresh(() -> List.of(Employee.builder().id("1").build()));
+
+        assertTrue(preHandle("GET", handler("getEmployeesByIds", List.class)));
+        assertTrue(preHandle("GET", handler("getCreateEmployeeJob", String.class)));
+        assertEquals(2, limit.getInFlight());
+    }
+
+    private MockHttpServletRequest admit(String method, HandlerMethod handler) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/employee");
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), handler));
+        return request;
+    }
+
+    private boolean preHandle(String method, HandlerMethod handler) throws Exception {
+        return interceptor.preHandle(
+                new MockHttpServletRequest(method, "/api/v1/employee"), new MockHttpServletResponse(), handler);
+    }
+
+    private static HandlerMethod handler(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new HandlerMethod(new EmployeeController(null), EmployeeController.class.getMethod(name, parameterTypes));
+    }
+}
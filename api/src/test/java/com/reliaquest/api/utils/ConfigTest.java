@@ -0,0 +1,105 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeList;
+import com.reliaquest.api.service.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.service.RestTemplateService;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+public class ConfigTest {
+
+    private static final String ROSTER_JSON = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"John Doe\","
+            + "\"employee_salary\":1000}],\"status\":\"Successfully processed request.\"}";
+
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private HttpServer upstream;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] gzipped = gzip(ROSTER_JSON.getBytes(StandardCharsets.UTF_8));
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/api/v1/employee", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, gzipped.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(gzipped);
+            }
+        });
+        upstream.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void testRestTemplate_RequestsAndDecodesGzip() {
+        RestTemplateService restTemplateService = new RestTemplateService(restTemplate(Duration.ofSeconds(10)));
+        String url = "http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee";
+
+        EmployeeList result = restTemplateService
+                .getAllEmployeesList(url, HttpMethod.GET, EmployeeList.class)
+                .getBody();
+
+        assertNotNull(acceptEncoding.get());
+        assertTrue(acceptEncoding.get().contains("gzip"));
+        assertNotNull(result);
+        assertEquals("John Doe", result.getData().get(0).getName());
+    }
+
+    @Test
+    void testRestTemplate_StalledUpstreamTimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        upstream.createContext("/stalled", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        RestTemplate restTemplate = restTemplate(Duration.ofMillis(200));
+        String url = "http://localhost:" + upstream.getAddress().getPort() + "/stalled";
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForEntity(url, String.class));
+        release.countDown();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+    }
+
+    private static RestTemplate restTemplate(Duration responseTimeout) {
+        return new Config().restTemplate(
+                new RestTemplateBuilder(), new AdaptiveConcurrencyLimit(20, 4, 200, 2.0, 0.5),
+                Duration.ofSeconds(2), responseTimeout, Duration.ofSeconds(1), 200, 64);
+    }
+
+    private static byte[] gzip(byte[] raw) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
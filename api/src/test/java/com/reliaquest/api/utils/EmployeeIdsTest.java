@@ -0,0 +1,29 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeIdsTest {
+
+    @Test
+    void acceptsCanonicalUuidsInEitherCase() {
+        String id = UUID.randomUUID().toString();
+
+        assertTrue(EmployeeIds.isValid(id));
+        assertTrue(EmployeeIds.isValid(id.toUpperCase()));
+        assertSame(id, EmployeeIds.canonical(id));
+        assertEquals(id, EmployeeIds.canonical(id.toUpperCase()));
+    }
+
+    @Test
+    void rejectsMalformedIds() {
+        assertFalse(EmployeeIds.isValid(null));
+        assertFalse(EmployeeIds.isValid("1"));
+        assertFalse(EmployeeIds.isValid("1-1-1-1-1"));
+        assertFalse(EmployeeIds.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a150"));
+        assertFalse(EmployeeIds.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a150z"));
+        assertFalse(EmployeeIds.isValid("4a3a170b+22cd-4ac2-aad1-9bb5b34a1507"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.model.CreateEmployeeDto;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "employee.warmup.enabled=false")
+public class EmployeeInputArgumentResolverTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void bindsBodyStraightToDto() throws Exception {
+        when(employeeService.createEmployee(any())).thenReturn(Employee.builder().id("1").name("John Doe").build());
+
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"John Doe\",\"salary\":1000,\"age\":32,\"title\":\"Manager\"}"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<Object> input = ArgumentCaptor.forClass(Object.class);
+        verify(employeeService).createEmployee(input.capture());
+        assertEquals(
+                CreateEmployeeDto.builder().name("John Doe").salary(1000).age(32).title("Manager").build(),
+                input.getValue());
+    }
+
+    @Test
+    void unreadableBodyIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"John Doe\",\"salary\":\"lots\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/employee").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+}
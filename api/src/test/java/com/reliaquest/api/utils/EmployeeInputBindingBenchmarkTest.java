@@ -0,0 +1,84 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.CreateEmployeeDto;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bytes allocated per create request on the write path, before and after binding the body straight to
+ * {@link CreateEmployeeDto}. "Before" reads the body as an {@code Object} map, converts it with
+ * {@code ObjectMapper.convertValue} and builds a new validator factory, as the service used to; "after" reads the DTO
+ * directly and validates with a shared validator. Run with {@code ./gradlew :api:benchmark}.
+ */
+@Tag("benchmark")
+public class EmployeeInputBindingBenchmarkTest {
+
+    private static final byte[] BODY = "{\"name\":\"John Doe\",\"salary\":120000,\"age\":32,\"title\":\"Manager\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Validator sharedValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void compareWritePathAllocation() {
+        long before = bytesPerRequest(() -> {
+            try {
+                Object input = objectMapper.readValue(BODY, Object.class);
+                CreateEmployeeDto employee = objectMapper.convertValue(input, CreateEmployeeDto.class);
+                return Validation.buildDefaultValidatorFactory().getValidator().validate(employee).size();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long convertOnly = bytesPerRequest(() -> {
+            try {
+                Object input = objectMapper.readValue(BODY, Object.class);
+                return sharedValidator.validate(objectMapper.convertValue(input, CreateEmployeeDto.class)).size();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long after = bytesPerRequest(() -> {
+            try {
+                return sharedValidator.validate(objectMapper.readValue(BODY, CreateEmployeeDto.class)).size();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        System.out.printf("create request write path, bytes allocated per request%n");
+        System.out.printf("  map + convertValue + validator factory: %,10d%n", before);
+        System.out.printf("  map + convertValue + shared validator  : %,10d%n", convertOnly);
+        System.out.printf("  direct DTO binding + shared validator : %,10d%n", after);
+        System.out.printf("  reduction: %.1fx%n", (double) before / after);
+
+        assertTrue(after < convertOnly);
+        assertTrue(convertOnly < before);
+    }
+
+    private static long bytesPerRequest(Supplier<Integer> request) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int violations = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS / 20; i++) {
+            violations += request.get();
+        }
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS / 20; i++) {
+            violations += request.get();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - start;
+        assertEquals(0, violations);
+        return allocated / (MEASURED_ITERATIONS / 20);
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EncodedEmployee;
+import com.reliaquest.api.model.EncodedEmployeeList;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+public class EncodedEmployeeHttpMessageConverterTest {
+
+    private final EncodedEmployeeHttpMessageConverter converter = new EncodedEmployeeHttpMessageConverter();
+
+    @Test
+    void writesPreEncodedListAsJsonArray() throws Exception {
+        EncodedEmployeeList roster = new EncodedEmployeeList(List.of(encoded("1"), encoded("2")));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(roster, MediaType.APPLICATION_JSON, output);
+
+        assertEquals("[{\"id\":\"1\"},{\"id\":\"2\"}]", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals(roster.json().length, output.getHeaders().getContentLength());
+        assertEquals("[]", new String(new EncodedEmployeeList(List.of()).json(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesPreEncodedEmployee() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(encoded("1"), null, output);
+
+        assertEquals("{\"id\":\"1\"}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertTrue(output.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void leavesOtherTypesAndFormatsToJackson() {
+        assertTrue(converter.canWrite(EncodedEmployeeList.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(EncodedEmployeeList.class, MediaType.parseMediaType(ApiConstants.SMILE_MEDIA_TYPE)));
+        assertFalse(converter.canWrite(Employee.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(EncodedEmployee.class, MediaType.APPLICATION_JSON));
+    }
+
+    private static EncodedEmployee encoded(String id) {
+        return new EncodedEmployee(Employee.builder().id(id).build(), ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void bucketsHoldTheirValuesWithinOneSixtyFourth() {
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(1L << 36);
+            int bucket = LatencyHistogram.bucketOf(value);
+            long high = LatencyHistogram.highestValueIn(bucket);
+            long low = bucket == 0 ? 0 : LatencyHistogram.highestValueIn(bucket - 1) + 1;
+            assertTrue(low <= value && value <= high, value + " outside bucket " + low + ".." + high);
+            assertTrue(high - low <= Math.max(0, value / 64), "bucket too wide for " + value);
+        }
+        for (long value = 0; value < 100_000; value++) {
+            int step = LatencyHistogram.bucketOf(value + 1) - LatencyHistogram.bucketOf(value);
+            assertTrue(step == 0 || step == 1, "buckets skip after " + value);
+        }
+    }
+
+    @Test
+    void percentilesOfUniformLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.count());
+        assertEquals(5_000, snapshot.percentile(50), 5_000 / 64.0);
+        assertEquals(9_900, snapshot.percentile(99), 9_900 / 64.0);
+        assertTrue(snapshot.percentile(99) >= 9_900);
+        assertEquals(10_000, snapshot.max(), 10_000 / 64.0);
+        assertEquals(5_000.5, snapshot.mean(), 5_000 / 64.0);
+    }
+
+    @Test
+    void intervalsAreDifferencesOfSnapshots() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        LatencyHistogram.Snapshot first = histogram.snapshot();
+        histogram.record(50_000);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot interval = histogram.snapshot().minus(first);
+
+        assertEquals(2, interval.count());
+        assertEquals(0, interval.percentile(50));
+        assertEquals(50_000, interval.max(), 50_000 / 64.0);
+        assertEquals(0, histogram.snapshot().minus(histogram.snapshot()).percentile(99));
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.LatencyRecorder;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class LatencyRecordingInterceptorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder(objectMapper, "", Duration.ofSeconds(60));
+    private final LatencyRecordingInterceptor interceptor = new LatencyRecordingInterceptor(recorder);
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    void splitsRequestIntoPhasesUnderItsRoutePattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee/search/doe");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee/search/{searchString}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        RequestTimings.upstream(() -> {
+            sleep(40);
+            // Nested upstream calls are inside the outer call's time, not added to it.
+            return RequestTimings.upstream(() -> sleep(20));
+        });
+        sleep(20);
+        interceptor.beforeBodyWrite("body", null, null, null, null, null);
+        sleep(30);
+        interceptor.afterCompletion(request, response, null, null);
+
+        JsonNode phases = objectMapper.valueToTree(recorder.nextInterval())
+                .path("endpoints").path("GET /api/v1/employee/search/{searchString}");
+        double total = phases.path("total").path("max").asDouble();
+        double upstream = phases.path("upstream").path("max").asDouble();
+        double compute = phases.path("compute").path("max").asDouble();
+        double serialization = phases.path("serialization").path("max").asDouble();
+        assertTrue(upstream >= 60, "upstream " + upstream);
+        assertTrue(compute >= 20 && compute < 55, "compute " + compute);
+        assertTrue(serialization >= 30 && serialization < 60, "serialization " + serialization);
+        assertTrue(total >= 110, "total " + total);
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    void upstreamCallsOutsideARequestAreNotTimed() {
+        assertEquals("done", RequestTimings.upstream(() -> "done"));
+        assertNull(RequestTimings.current());
+    }
+
+    private static Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.reliaquest.server;
 
+import com.reliaquest.server.config.FakerPreloader;
+import java.util.Locale;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,6 +9,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class ServerApplication {
 
     public static void main(String[] args) {
+        FakerPreloader.start(Locale.getDefault());
         SpringApplication.run(ServerApplication.class, args);
     }
 }
@@ -0,0 +1,37 @@
+package com.reliaquest.server.config;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import net.datafaker.Faker;
+
+/**
+ * Datafaker parses its locale YAML on first use, which takes longer than the rest of the server's startup. Calling
+ * {@link #start(Locale)} first thing in {@code main} does that parsing on a background thread while Spring builds the
+ * context, and {@link #get(Locale)} hands the warmed instance to the {@code faker} bean.
+ */
+public final class FakerPreloader {
+
+    private static volatile CompletableFuture<Faker> preloaded;
+
+    private FakerPreloader() {}
+
+    public static void start(Locale locale) {
+        preloaded = CompletableFuture.supplyAsync(() -> {
+            final var faker = new Faker(locale);
+            faker.name().fullName();
+            return faker;
+        });
+    }
+
+    /** The preloaded instance when one was started for this locale, otherwise a new one loaded on first use. */
+    public static Faker get(Locale locale) {
+        final var future = preloaded;
+        if (future != null) {
+            final var faker = future.join();
+            if (faker.getContext().getLocale().equals(locale)) {
+                return faker;
+            }
+        }
+        return new Faker(locale);
+    }
+}
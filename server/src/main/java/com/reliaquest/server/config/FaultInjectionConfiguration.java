@@ -0,0 +1,44 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import java.io.IOException;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(FaultInjectionProperties.class)
+public class FaultInjectionConfiguration {
+
+    /*
+     * Always registered and switched on or off at runtime: a property condition would be evaluated once at build time
+     * by Spring AOT, and the fast-start build could then never turn fault injection on.
+     */
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjectionProperties properties, ObjectMapper objectMapper) throws IOException {
+        final var profile =
+                properties.getProfiles().getOrDefault(properties.getProfile(), new FaultInjectionProperties.Profile());
+        if (properties.isEnabled() && !properties.getProfiles().containsKey(properties.getProfile())) {
+            throw new IllegalStateException("Unknown mock.faults.profile '%s', expected one of %s"
+                    .formatted(properties.getProfile(), properties.getProfiles().keySet()));
+        }
+        final long seed = properties.getSeed() == null ? new Random().nextLong() : properties.getSeed();
+        if (properties.isEnabled()) {
+            // Logged even when picked at random, so an unseeded run can still be replayed.
+            log.info("Fault injection profile '{}' active, seed {}", properties.getProfile(), seed);
+        }
+
+        final var registration = new FilterRegistrationBean<>(new FaultInjectionFilter(profile, seed, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+}
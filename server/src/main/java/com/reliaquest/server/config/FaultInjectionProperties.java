@@ -0,0 +1,93 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Named fault profiles for the mock server, selected with {@code mock.faults.profile}. A profile sets the default
+ * faults for every request; its {@code endpoints} list can override them for specific routes, and the first matching
+ * endpoint wins. All randomness derives from {@code mock.faults.seed}, and fault draws are keyed by each request's
+ * arrival number, so a run can be replayed even when its requests run concurrently.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    private boolean enabled;
+
+    /** Seed for every random choice the server makes; unset means a different sequence on each start. */
+    private Long seed;
+
+    private String profile = "none";
+
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    @Data
+    public static class Faults {
+
+        private Latency latency = new Latency();
+
+        /** Fraction of requests answered with {@code errorStatus} instead of reaching the controller. */
+        private double errorRate;
+
+        private int errorStatus = 500;
+
+        /** Fraction of responses written slowly, {@code slowDripChunkBytes} every {@code slowDripInterval}. */
+        private double slowDripRate;
+
+        private int slowDripChunkBytes = 256;
+
+        private Duration slowDripInterval = Duration.ofMillis(50);
+
+        /** Fraction of responses cut off half way through the body and the connection closed. */
+        private double resetRate;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Profile extends Faults {
+
+        private List<Endpoint> endpoints = new ArrayList<>();
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Endpoint extends Faults {
+
+        /** HTTP method to match; unset matches any method. */
+        private String method;
+
+        /** Path pattern such as {@code /api/v1/employee/{id}}. */
+        private String path;
+    }
+
+    @Data
+    public static class Latency {
+
+        private Distribution distribution = Distribution.NONE;
+
+        /** Delay for {@code FIXED}. */
+        private Duration fixed = Duration.ZERO;
+
+        /** Bounds for {@code UNIFORM}; {@code max} also caps {@code EXPONENTIAL} when set. */
+        private Duration min = Duration.ZERO;
+
+        private Duration max = Duration.ZERO;
+
+        /** Mean delay for {@code EXPONENTIAL}. */
+        private Duration mean = Duration.ZERO;
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        UNIFORM,
+        EXPONENTIAL
+    }
+}
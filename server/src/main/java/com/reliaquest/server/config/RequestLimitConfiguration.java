@@ -0,0 +1,47 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.RequestLimiter;
+import java.time.Duration;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+public class RequestLimitConfiguration implements WebMvcConfigurer {
+
+    private final RandomRequestLimitInterceptor randomRequestLimitInterceptor;
+
+    /*
+     * Unset (zero) limit and backoff keep the original randomized behaviour: 5-9 requests, then a 30-89s lockout,
+     * chosen once at startup. The choice follows mock.faults.seed when one is set.
+     */
+    public RequestLimitConfiguration(
+            @Value("${mock.rate-limit.limit:0}") int limit,
+            @Value("${mock.rate-limit.backoff:0s}") Duration backoff,
+            @Value("${mock.rate-limit.key-strategy:GLOBAL}") RandomRequestLimitInterceptor.KeyStrategy keyStrategy,
+            @Value("${mock.rate-limit.client-header:X-Client-Id}") String clientHeader,
+            @Value("${mock.faults.seed:#{null}}") Long seed) {
+        final RandomGenerator random = seed == null ? RandomGenerator.getDefault() : new Random(seed);
+        final var requestLimiter = new RequestLimiter(
+                limit > 0 ? limit : random.nextInt(5, 10),
+                backoff.isZero() ? Duration.ofSeconds(random.nextInt(30, 90)) : backoff);
+        log.info(
+                "Limiting {} clients to {} requests, then {}s lockout",
+                keyStrategy,
+                requestLimiter.getLimit(),
+                requestLimiter.getBackoff().toSeconds());
+        this.randomRequestLimitInterceptor =
+                new RandomRequestLimitInterceptor(requestLimiter, keyStrategy, clientHeader);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(randomRequestLimitInterceptor);
+    }
+}
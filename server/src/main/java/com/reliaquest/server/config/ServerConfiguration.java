@@ -12,11 +12,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
 
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
@@ -26,18 +26,19 @@ import net.datafaker.transformations.Schema;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 	private final Logger log = LoggerFactory.getLogger(ServerConfiguration.class);
 
     @Bean
     public Faker faker() {
-        return new Faker(Locale.getDefault());
+        return FakerPreloader.get(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The seed roster. MockEmployeeService copies it into its own id index and applies CRUD operations
+     * there, so this list is never modified after startup.
      */
     @Bean
     public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
@@ -58,8 +59,16 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+    /*
+     * Binary Smile encoding of the same Jackson model, served when a client sends
+     * Accept: application/x-jackson-smile. JSON remains the default for everyone else.
+     * Jackson writes UUIDs as 16 raw bytes in binary formats, which a client reading the id as a
+     * string would see as Base64, so ids stay in their text form as in JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.smile()
+                .serializerByType(UUID.class, ToStringSerializer.instance)
+                .build());
     }
 }
@@ -5,9 +5,9 @@ import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.Uuids;
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,9 +32,12 @@ public class MockEmployeeController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") String id) {
+        if (!Uuids.isValid(id)) {
+            return invalidId(id);
+        }
         return mockEmployeeService
-                .findById(uuid)
+                .findById(Uuids.mostSignificantBits(id), Uuids.leastSignificantBits(id))
                 .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
@@ -48,4 +51,19 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") String id) {
+        if (!Uuids.isValid(id)) {
+            return invalidId(id);
+        }
+        return mockEmployeeService
+                .deleteById(Uuids.mostSignificantBits(id), Uuids.leastSignificantBits(id))
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    private static ResponseEntity<Response<MockEmployee>> invalidId(String id) {
+        return ResponseEntity.badRequest().body(Response.error("Invalid employee id: " + id));
+    }
 }
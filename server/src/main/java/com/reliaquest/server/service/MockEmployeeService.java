@@ -7,29 +7,39 @@ import com.reliaquest.server.model.MockEmployee;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    /*
+     * Keyed by the two halves of the id so lookups and deletes by id are constant time and allocation free;
+     * insertion order keeps the list endpoint stable. All access synchronizes on the index itself.
+     */
+    private final UuidIndex<MockEmployee> mockEmployees = new UuidIndex<>();
 
-    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+    public MockEmployeeService(Faker faker, List<MockEmployee> mockEmployees) {
+        this.faker = faker;
+        mockEmployees.forEach(this::put);
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        synchronized (mockEmployees) {
+            return List.copyOf(mockEmployees.values());
+        }
+    }
+
+    /** Looks up an employee by the most and least significant 64 bits of its id. */
+    public Optional<MockEmployee> findById(long mostSignificantBits, long leastSignificantBits) {
+        synchronized (mockEmployees) {
+            return Optional.ofNullable(mockEmployees.get(mostSignificantBits, leastSignificantBits));
+        }
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +47,47 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        put(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /** Deletes an employee by the most and least significant 64 bits of its id. */
+    public Optional<MockEmployee> deleteById(long mostSignificantBits, long leastSignificantBits) {
+        final MockEmployee removed;
+        synchronized (mockEmployees) {
+            removed = mockEmployees.remove(mostSignificantBits, leastSignificantBits);
+        }
+        if (removed != null) {
+            log.debug("Removed employee: {}", removed);
+        }
+        return Optional.ofNullable(removed);
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final Optional<MockEmployee> mockEmployee;
+        synchronized (mockEmployees) {
+            mockEmployee = mockEmployees.values().stream()
+                    .filter(employee -> Objects.nonNull(employee.getName())
+                            && employee.getName().equalsIgnoreCase(input.getName()))
+                    .findFirst();
+            mockEmployee.ifPresent(employee -> mockEmployees.remove(
+                    employee.getId().getMostSignificantBits(), employee.getId().getLeastSignificantBits()));
+        }
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private void put(MockEmployee mockEmployee) {
+        synchronized (mockEmployees) {
+            mockEmployees.put(
+                    mockEmployee.getId().getMostSignificantBits(),
+                    mockEmployee.getId().getLeastSignificantBits(),
+                    mockEmployee);
+        }
+    }
 }
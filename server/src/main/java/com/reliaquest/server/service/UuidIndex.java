@@ -0,0 +1,139 @@
+package com.reliaquest.server.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Map from UUIDs, held as their two 64-bit halves, to values, that keeps insertion order like a
+ * {@link java.util.LinkedHashMap} without a node or boxed key per entry. Entries live in parallel arrays in insertion
+ * order; an open-addressing table of {@code int} slots, linearly probed and never more than half full, points into
+ * them. Removing an entry leaves a hole in the arrays and a tombstone in the table until the next rebuild. Not
+ * thread-safe.
+ */
+final class UuidIndex<V> {
+
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] slots;
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private Object[] values;
+    private int used;
+    private int size;
+
+    UuidIndex() {
+        rebuild(MIN_CAPACITY);
+    }
+
+    V get(long msb, long lsb) {
+        final int slot = find(msb, lsb);
+        return slot < 0 ? null : value(slots[slot]);
+    }
+
+    /** Maps the key to {@code value}; replacing a value keeps the key's original position. */
+    V put(long msb, long lsb, V value) {
+        Objects.requireNonNull(value, "value");
+        final int found = find(msb, lsb);
+        if (found >= 0) {
+            final V previous = value(slots[found]);
+            values[slots[found]] = value;
+            return previous;
+        }
+        if (used == values.length) {
+            rebuild(Math.max(MIN_CAPACITY, size * 2));
+        }
+        int slot = hash(msb, lsb) & (slots.length - 1);
+        while (slots[slot] >= 0) {
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = used;
+        mostSignificantBits[used] = msb;
+        leastSignificantBits[used] = lsb;
+        values[used] = value;
+        used++;
+        size++;
+        return null;
+    }
+
+    V remove(long msb, long lsb) {
+        final int slot = find(msb, lsb);
+        if (slot < 0) {
+            return null;
+        }
+        final int entry = slots[slot];
+        final V removed = value(entry);
+        values[entry] = null;
+        slots[slot] = DELETED;
+        size--;
+        return removed;
+    }
+
+    /** The values in insertion order. */
+    List<V> values() {
+        final List<V> live = new ArrayList<>(size);
+        for (int i = 0; i < used; i++) {
+            if (values[i] != null) {
+                live.add(value(i));
+            }
+        }
+        return live;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(long msb, long lsb) {
+        int slot = hash(msb, lsb) & (slots.length - 1);
+        while (true) {
+            final int entry = slots[slot];
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry >= 0 && mostSignificantBits[entry] == msb && leastSignificantBits[entry] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+    }
+
+    // Compacts the live entries, in order, into arrays of the given capacity, and clears all tombstones.
+    private void rebuild(int capacity) {
+        final long[] oldMsb = mostSignificantBits;
+        final long[] oldLsb = leastSignificantBits;
+        final Object[] oldValues = values;
+        final int oldUsed = used;
+
+        slots = new int[Integer.highestOneBit(capacity - 1) << 2];
+        Arrays.fill(slots, EMPTY);
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        values = new Object[capacity];
+        used = 0;
+        size = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldValues[i] != null) {
+                put(oldMsb[i], oldLsb[i], value(oldValues, i));
+            }
+        }
+    }
+
+    // Random UUIDs are already well mixed; the multiply spreads the bits of hand-made ones.
+    private static int hash(long msb, long lsb) {
+        final long mixed = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private V value(int entry) {
+        return value(values, entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V value(Object[] values, int entry) {
+        return (V) values[entry];
+    }
+}
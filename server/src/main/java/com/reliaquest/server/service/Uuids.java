@@ -0,0 +1,61 @@
+package com.reliaquest.server.service;
+
+/**
+ * Reads UUIDs in their canonical 36-character form, {@code 8-4-4-4-12} hex digits, straight into their two 64-bit
+ * halves, so that an id from a request path is looked up without creating a {@link java.util.UUID}. Unlike
+ * {@link java.util.UUID#fromString(String)} it rejects shortened forms such as {@code 1-1-1-1-1}.
+ */
+public final class Uuids {
+
+    private static final int LENGTH = 36;
+
+    private Uuids() {}
+
+    public static boolean isValid(CharSequence text) {
+        if (text == null || text.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            final char c = text.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23 ? c != '-' : hexValue(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The high 64 bits of a UUID that {@link #isValid(CharSequence)} accepted. */
+    public static long mostSignificantBits(CharSequence text) {
+        return hex(text, 0, 18);
+    }
+
+    /** The low 64 bits of a UUID that {@link #isValid(CharSequence)} accepted. */
+    public static long leastSignificantBits(CharSequence text) {
+        return hex(text, 19, LENGTH);
+    }
+
+    private static long hex(CharSequence text, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            final char c = text.charAt(i);
+            if (c != '-') {
+                bits = (bits << 4) | hexValue(c);
+            }
+        }
+        return bits;
+    }
+
+    // ASCII only: Character.digit would also accept other scripts' digits and the full-width letters.
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Applies the active {@link FaultInjectionProperties.Profile} to each request, in this order: latency, injected error
+ * status, then either a connection dropped half way through the body or a slow-drip body. Each request draws from its
+ * own generator, derived from the seed and the request's arrival number rather than from one shared generator whose
+ * sequence Tomcat threads would interleave differently on every run. With the same seed, the n-th request always
+ * gets the same faults, so a concurrent load test sees the same set of faults on every run.
+ */
+@Slf4j
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjectionProperties.Profile profile;
+    private final List<EndpointRule> endpointRules;
+    private final long seed;
+    private final AtomicLong arrivals = new AtomicLong();
+    private final byte[] errorBody;
+
+    public FaultInjectionFilter(FaultInjectionProperties.Profile profile, long seed, ObjectMapper objectMapper)
+            throws IOException {
+        this.profile = profile;
+        this.seed = seed;
+        this.endpointRules = profile.getEndpoints().stream()
+                .map(endpoint -> new EndpointRule(
+                        endpoint.getMethod(),
+                        PathPatternParser.defaultInstance.parse(
+                                Objects.requireNonNull(endpoint.getPath(), "Fault endpoint path is required")),
+                        endpoint))
+                .toList();
+        this.errorBody = objectMapper.writeValueAsBytes(Response.error("Injected fault"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var random = new SplittableRandom(seed ^ mix(arrivals.getAndIncrement()));
+        final var faults = faultsFor(request);
+
+        sleep(latencyMillis(faults.getLatency(), random));
+
+        if (chance(faults.getErrorRate(), random)) {
+            log.debug("Injecting {} for {} {}", faults.getErrorStatus(), request.getMethod(), request.getRequestURI());
+            response.setStatus(faults.getErrorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(errorBody.length);
+            response.getOutputStream().write(errorBody);
+            return;
+        }
+
+        final boolean reset = chance(faults.getResetRate(), random);
+        final boolean slowDrip = !reset && chance(faults.getSlowDripRate(), random);
+        if (!reset && !slowDrip) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final var buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, buffered);
+        final byte[] body = buffered.getContentAsByteArray();
+        response.setContentLength(body.length);
+        if (reset) {
+            log.debug("Injecting connection reset for {} {}", request.getMethod(), request.getRequestURI());
+            // Promise the full body, send half, then let the connection close: the client sees it drop mid-body.
+            // Tomcat never compresses a response with a strong ETag; compressing would swap Content-Length for
+            // chunked encoding and the cut would look like a complete body.
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            response.setHeader(HttpHeaders.ETAG, "\"injected-reset\"");
+            response.getOutputStream().write(body, 0, body.length / 2);
+            response.flushBuffer();
+            return;
+        }
+        log.debug("Slow-dripping {} bytes for {} {}", body.length, request.getMethod(), request.getRequestURI());
+        for (int offset = 0; offset < body.length; offset += faults.getSlowDripChunkBytes()) {
+            response.getOutputStream()
+                    .write(body, offset, Math.min(faults.getSlowDripChunkBytes(), body.length - offset));
+            response.flushBuffer();
+            sleep(faults.getSlowDripInterval().toMillis());
+        }
+    }
+
+    private FaultInjectionProperties.Faults faultsFor(HttpServletRequest request) {
+        if (endpointRules.isEmpty()) {
+            return profile;
+        }
+        final var path = PathContainer.parsePath(request.getRequestURI());
+        return endpointRules.stream()
+                .filter(rule -> rule.method() == null || rule.method().equalsIgnoreCase(request.getMethod()))
+                .filter(rule -> rule.path().matches(path))
+                .<FaultInjectionProperties.Faults>map(EndpointRule::faults)
+                .findFirst()
+                .orElse(profile);
+    }
+
+    private static long latencyMillis(FaultInjectionProperties.Latency latency, SplittableRandom random) {
+        final long max = latency.getMax().toMillis();
+        return switch (latency.getDistribution()) {
+            case NONE -> 0;
+            case FIXED -> latency.getFixed().toMillis();
+            case UNIFORM -> random.nextLong(latency.getMin().toMillis(), Math.max(latency.getMin().toMillis(), max) + 1);
+            case EXPONENTIAL -> {
+                final long sample = Math.round(-latency.getMean().toMillis() * Math.log(1 - random.nextDouble()));
+                yield max > 0 ? Math.min(sample, max) : sample;
+            }
+        };
+    }
+
+    private static boolean chance(double rate, SplittableRandom random) {
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    /** SplitMix64 finalizer: spreads consecutive arrival numbers so neighbouring requests get unrelated streams. */
+    private static long mix(long key) {
+        key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+        return key ^ (key >>> 31);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record EndpointRule(String method, PathPattern path, FaultInjectionProperties.Endpoint faults) {}
+}
@@ -2,47 +2,45 @@ package com.reliaquest.server.web;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.random.RandomGenerator;
-import lombok.Getter;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+@RequiredArgsConstructor
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private static final String GLOBAL_KEY = "*";
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final RequestLimiter requestLimiter;
+    private final KeyStrategy keyStrategy;
+    private final String clientHeader;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
-            }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
-            }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+        if (!requestLimiter.tryAcquire(keyOf(request))) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
         }
 
         return true;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
-        }
+    private String keyOf(HttpServletRequest request) {
+        return switch (keyStrategy) {
+            case GLOBAL -> GLOBAL_KEY;
+            case REMOTE_ADDRESS -> request.getRemoteAddr();
+            case CLIENT_HEADER -> Objects.requireNonNullElse(request.getHeader(clientHeader), GLOBAL_KEY);
+        };
+    }
+
+    /**
+     * How requests are grouped for limiting. {@code CLIENT_HEADER} falls back to the shared global bucket for requests
+     * without the header.
+     */
+    public enum KeyStrategy {
+        GLOBAL,
+        REMOTE_ADDRESS,
+        CLIENT_HEADER
     }
 }
@@ -0,0 +1,102 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+
+/**
+ * Lock-free request limiter keyed by client. Each key admits up to {@code limit} requests; once the limit is reached
+ * the key is locked out until {@code backoff} has passed since its last admitted request, after which it starts a new
+ * window. A key that stays idle for {@code backoff} also starts a new window.
+ *
+ * <p>The count and the time of the last admitted request are packed into one {@code long} per key, so every decision
+ * is a single compare-and-set on that word and concurrent requests can neither over-admit nor reset out of order. The
+ * clock is read once per call.
+ */
+public class RequestLimiter {
+
+    private static final int TIMESTAMP_BITS = 48;
+    private static final long TIMESTAMP_MASK = (1L << TIMESTAMP_BITS) - 1;
+    private static final int MAX_LIMIT = (1 << (Long.SIZE - TIMESTAMP_BITS - 1)) - 1;
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    @Getter
+    private final int limit;
+
+    @Getter
+    private final Duration backoff;
+
+    private final long backoffMillis;
+    private final LongSupplier clock;
+    private final long origin;
+    private final ConcurrentHashMap<String, AtomicLong> states = new ConcurrentHashMap<>();
+
+    public RequestLimiter(int limit, Duration backoff) {
+        this(limit, backoff, System::currentTimeMillis);
+    }
+
+    RequestLimiter(int limit, Duration backoff, LongSupplier clock) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Request limit must be between 1 and " + MAX_LIMIT);
+        }
+        this.limit = limit;
+        this.backoff = backoff;
+        this.backoffMillis = backoff.toMillis();
+        this.clock = clock;
+        // Timestamps are stored relative to the limiter's creation, which keeps them within 48 bits.
+        this.origin = clock.getAsLong() - backoffMillis;
+    }
+
+    public boolean tryAcquire(String key) {
+        final long now = clock.getAsLong() - origin;
+        final AtomicLong state = stateFor(key);
+        while (true) {
+            final long current = state.get();
+            final int count = count(current);
+            final boolean windowExpired = now - timestamp(current) >= backoffMillis;
+            final long next;
+            if (windowExpired) {
+                next = pack(1, now);
+            } else if (count < limit) {
+                next = pack(count + 1, now);
+            } else {
+                return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private AtomicLong stateFor(String key) {
+        AtomicLong state = states.get(key);
+        if (state != null) {
+            return state;
+        }
+        if (states.size() >= MAX_TRACKED_KEYS) {
+            evictExpired();
+        }
+        // A fresh key starts with an already expired window.
+        return states.computeIfAbsent(key, ignored -> new AtomicLong(pack(0, 0)));
+    }
+
+    // Best effort: a key evicted while a request is in flight simply starts a new window on its next request.
+    private void evictExpired() {
+        final long now = clock.getAsLong() - origin;
+        states.values().removeIf(state -> now - timestamp(state.get()) >= backoffMillis);
+    }
+
+    private static long pack(int count, long timestamp) {
+        return ((long) count << TIMESTAMP_BITS) | (timestamp & TIMESTAMP_MASK);
+    }
+
+    private static int count(long state) {
+        return (int) (state >>> TIMESTAMP_BITS);
+    }
+
+    private static long timestamp(long state) {
+        return state & TIMESTAMP_MASK;
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ServerConfigurationTest {
+
+    @Test
+    void smileWritesIdsAsText() throws Exception {
+        final var mapper = new ServerConfiguration().smileHttpMessageConverter().getObjectMapper();
+        final var id = UUID.randomUUID();
+        final var employee = MockEmployee.builder().id(id).name("John Doe").build();
+
+        final JsonNode decoded = mapper.readTree(mapper.writeValueAsBytes(employee));
+
+        assertTrue(decoded.get("id").isTextual());
+        assertEquals(id.toString(), decoded.get("id").asText());
+        assertEquals("John Doe", decoded.get("employee_name").asText());
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidIndexTest {
+
+    @Test
+    void behavesLikeLinkedHashMap() {
+        final var random = new Random(3);
+        final var index = new UuidIndex<String>();
+        final Map<UUID, String> expected = new LinkedHashMap<>();
+        final List<UUID> keys = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 5 || keys.isEmpty()) {
+                final var key = new UUID(random.nextLong(), random.nextLong());
+                keys.add(key);
+                assertEquals(expected.put(key, "v" + i), index.put(msb(key), lsb(key), "v" + i));
+            } else if (operation < 7) {
+                final var key = keys.get(random.nextInt(keys.size()));
+                assertEquals(expected.put(key, "r" + i), index.put(msb(key), lsb(key), "r" + i));
+            } else if (operation < 9) {
+                final var key = keys.get(random.nextInt(keys.size()));
+                assertEquals(expected.remove(key), index.remove(msb(key), lsb(key)));
+            } else {
+                final var key = keys.get(random.nextInt(keys.size()));
+                assertEquals(expected.get(key), index.get(msb(key), lsb(key)));
+            }
+            assertEquals(expected.size(), index.size());
+        }
+        assertEquals(List.copyOf(expected.values()), index.values());
+    }
+
+    @Test
+    void keysDifferingInOneHalfAreDistinct() {
+        final var index = new UuidIndex<String>();
+        index.put(1, 2, "a");
+        index.put(2, 1, "b");
+        index.put(1, 3, "c");
+
+        assertEquals("a", index.get(1, 2));
+        assertEquals("b", index.get(2, 1));
+        assertEquals("c", index.get(1, 3));
+        assertNull(index.get(3, 1));
+    }
+
+    private static long msb(UUID key) {
+        return key.getMostSignificantBits();
+    }
+
+    private static long lsb(UUID key) {
+        return key.getLeastSignificantBits();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidsTest {
+
+    @Test
+    void readsBothHalvesLikeUuidFromString() {
+        for (int i = 0; i < 1_000; i++) {
+            final var uuid = UUID.randomUUID();
+            for (final String text : new String[] {uuid.toString(), uuid.toString().toUpperCase()}) {
+                assertTrue(Uuids.isValid(text), text);
+                assertEquals(uuid.getMostSignificantBits(), Uuids.mostSignificantBits(text), text);
+                assertEquals(uuid.getLeastSignificantBits(), Uuids.leastSignificantBits(text), text);
+            }
+        }
+    }
+
+    @Test
+    void rejectsAnythingButTheCanonicalForm() {
+        assertFalse(Uuids.isValid(null));
+        assertFalse(Uuids.isValid(""));
+        assertFalse(Uuids.isValid("1"));
+        assertFalse(Uuids.isValid("1-1-1-1-1"));
+        assertFalse(Uuids.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a150"));
+        assertFalse(Uuids.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507a"));
+        assertFalse(Uuids.isValid("4a3a170b22cd-4ac2-aad1-9bb5b34a1507-"));
+        assertFalse(Uuids.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a150g"));
+        // Arabic-Indic digit one and full-width small a, which Character.digit reads as hex.
+        assertFalse(Uuids.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a150\u0661"));
+        assertFalse(Uuids.isValid("4a3a170b-22cd-4ac2-aad1-9bb5b34a150\uff41"));
+    }
+}
@@ -0,0 +1,162 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private static final String BODY = "{\"data\":[],\"status\":\"Successfully processed request.\"}";
+
+    @Test
+    void sameSeedReplaysSameFaults() throws Exception {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.setErrorRate(0.3);
+        profile.setErrorStatus(503);
+
+        assertEquals(statuses(profile, 42L), statuses(profile, 42L));
+        assertTrue(statuses(profile, 42L).contains(503));
+        assertTrue(statuses(profile, 42L).contains(200));
+    }
+
+    @Test
+    void sameSeedReplaysSameFaultsUnderConcurrentLoad() throws Exception {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.getLatency().setDistribution(FaultInjectionProperties.Distribution.UNIFORM);
+        profile.getLatency().setMax(Duration.ofMillis(2));
+        profile.setErrorRate(0.3);
+        profile.setErrorStatus(503);
+        profile.setResetRate(0.3);
+
+        final var first = concurrentFaults(profile, 42L);
+        for (int run = 0; run < 5; run++) {
+            assertEquals(first, concurrentFaults(profile, 42L));
+        }
+        assertEquals(Set.of("error", "reset", "none"), first.keySet());
+    }
+
+    @Test
+    void endpointRuleOverridesProfileDefaults() throws Exception {
+        final var endpoint = new FaultInjectionProperties.Endpoint();
+        endpoint.setMethod("GET");
+        endpoint.setPath("/api/v1/employee/{id}");
+        endpoint.setErrorRate(1.0);
+        endpoint.setErrorStatus(503);
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.getEndpoints().add(endpoint);
+        final var filter = new FaultInjectionFilter(profile, 1L, new ObjectMapper());
+
+        assertEquals(503, execute(filter, "GET", "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507").getStatus());
+        assertEquals(200, execute(filter, "GET", "/api/v1/employee").getStatus());
+        assertEquals(200, execute(filter, "DELETE", "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507").getStatus());
+    }
+
+    @Test
+    void fixedLatencyDelaysRequest() throws Exception {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.getLatency().setDistribution(FaultInjectionProperties.Distribution.FIXED);
+        profile.getLatency().setFixed(Duration.ofMillis(50));
+        final var filter = new FaultInjectionFilter(profile, 1L, new ObjectMapper());
+
+        final long start = System.nanoTime();
+        execute(filter, "GET", "/api/v1/employee");
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 50);
+    }
+
+    @Test
+    void slowDripDeliversWholeBody() throws Exception {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.setSlowDripRate(1.0);
+        profile.setSlowDripChunkBytes(8);
+        profile.setSlowDripInterval(Duration.ofMillis(1));
+        final var filter = new FaultInjectionFilter(profile, 1L, new ObjectMapper());
+
+        final var response = execute(filter, "GET", "/api/v1/employee");
+        assertEquals(BODY, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(BODY.length(), response.getContentLength());
+    }
+
+    @Test
+    void resetSendsHalfTheBodyAndClosesConnection() throws Exception {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.setResetRate(1.0);
+        final var filter = new FaultInjectionFilter(profile, 1L, new ObjectMapper());
+
+        final var response = execute(filter, "GET", "/api/v1/employee");
+        assertTrue(response.isCommitted());
+        assertEquals("close", response.getHeader("Connection"));
+        assertEquals(BODY.length() / 2, response.getContentAsByteArray().length);
+        assertEquals(BODY.length(), response.getContentLength());
+    }
+
+    private static List<Integer> statuses(FaultInjectionProperties.Profile profile, long seed) throws Exception {
+        final var filter = new FaultInjectionFilter(profile, seed, new ObjectMapper());
+        final List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            statuses.add(execute(filter, "GET", "/api/v1/employee").getStatus());
+        }
+        return statuses;
+    }
+
+    /** Counts of each fault for requests sent from several threads at once; arrival order differs run to run. */
+    private static Map<String, Long> concurrentFaults(FaultInjectionProperties.Profile profile, long seed)
+            throws Exception {
+        final var filter = new FaultInjectionFilter(profile, seed, new ObjectMapper());
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.submit(() -> {
+                    final var response = execute(filter, "GET", "/api/v1/employee");
+                    if (response.getStatus() == 503) {
+                        return "error";
+                    }
+                    return response.getHeader("Connection") != null ? "reset" : "none";
+                }));
+            }
+            final Map<String, Long> faults = new TreeMap<>();
+            for (final var future : futures) {
+                faults.merge(future.get(), 1L, Long::sum);
+            }
+            return faults;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MockHttpServletResponse execute(FaultInjectionFilter filter, String method, String uri)
+            throws Exception {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, chain());
+        return response;
+    }
+
+    private static MockFilterChain chain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
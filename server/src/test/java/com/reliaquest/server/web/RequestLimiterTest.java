@@ -0,0 +1,103 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void admitsUpToLimitThenLocksOutUntilBackoffPasses() {
+        final var limiter = new RequestLimiter(3, Duration.ofSeconds(30), clock::get);
+
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+
+        clock.addAndGet(29_999);
+        assertFalse(limiter.tryAcquire("a"));
+
+        clock.addAndGet(1);
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        final var limiter = new RequestLimiter(1, Duration.ofSeconds(30), clock::get);
+
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void neverOverAdmitsUnderContention() throws Exception {
+        final int limit = 1_000;
+        final int threads = 16;
+        final int attemptsPerThread = 5_000;
+        final var limiter = new RequestLimiter(limit, Duration.ofMinutes(1), clock::get);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final var start = new CountDownLatch(1);
+        try {
+            final List<Future<Integer>> admitted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("shared")) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : admitted) {
+                total += future.get();
+            }
+            assertEquals(limit, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void interceptorRejectsWith429PerClientHeader() {
+        final var interceptor = new RandomRequestLimitInterceptor(
+                new RequestLimiter(1, Duration.ofSeconds(30), clock::get),
+                RandomRequestLimitInterceptor.KeyStrategy.CLIENT_HEADER,
+                "X-Client-Id");
+
+        assertTrue(interceptor.preHandle(request("alice"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("bob"), new MockHttpServletResponse(), null));
+
+        final var rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("alice"), rejected, null));
+        assertEquals(429, rejected.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+}